@@ -12,12 +12,16 @@ class ConfigurationHandler
 	/**
 	 * Names of the categories.
 	 */
-	private static final String CATEGORY_CRAFTING = "crafting", CATEGORY_CLIENT = "client", CATEGORY_INTEGRATION = "integration";
+	private static final String CATEGORY_CRAFTING = "crafting", CATEGORY_CLIENT = "client", CATEGORY_INTEGRATION = "integration",
+					CATEGORY_PERFORMANCE = "performance";
 
 	/**
 	 * Default values.
 	 */
-	private static final int DEFAULT_CONVERSION = 250;
+	private static final int DEFAULT_CONVERSION = 250, DEFAULT_STORAGEBUS_MAX_TICKRATE = 60, DEFAULT_COMPRESSION_LEVEL = 6,
+					DEFAULT_COMPRESSION_THRESHOLD = 256, DEFAULT_EMITTER_MIN_HOLD_TICKS = 5,
+					DEFAULT_TRANSPORT_BATCH_SIZE = 8, DEFAULT_INFUSION_BUFFER_SIZE = 16,
+					DEFAULT_ASSEMBLER_QUEUE_DEPTH = 8;
 	private static final boolean DEFAULT_ESSENTIAPROVIDER = true, DEFAULT_INFUSIONPROVIDER = true, DEFAULT_QUARTZ = true, DEFAULT_GEARBOX = false,
 					DEFAULT_EXTRACELLS_BLIST = true;
 
@@ -58,6 +62,42 @@ class ConfigurationHandler
 	 */
 	private boolean extracellsBlacklist = true;
 
+	/**
+	 * Slowest rate an idle essentia storage bus will check its container.
+	 */
+	private int storageBusMaxTickRate = 60;
+
+	/**
+	 * Deflate level used when compressing packets.
+	 */
+	private int packetCompressionLevel = 6;
+
+	/**
+	 * Packets smaller than this are not compressed.
+	 */
+	private int packetCompressionThreshold = 256;
+
+	/**
+	 * Minimum ticks an essentia level emitter holds its output before
+	 * changing it again.
+	 */
+	private int levelEmitterMinHoldTicks = 5;
+
+	/**
+	 * Most essentia a device will pull from a single neighbor at once.
+	 */
+	private int essentiaTransportBatchSize = 8;
+
+	/**
+	 * How much essentia an infusion provider fetches from the network at once.
+	 */
+	private int infusionProviderBufferSize = 16;
+
+	/**
+	 * Number of crafts an arcane assembler will accept at once.
+	 */
+	private int arcaneAssemblerQueueDepth = 8;
+
 	private ConfigurationHandler( final Configuration config )
 	{
 		this.configSettings = config;
@@ -116,6 +156,41 @@ class ConfigurationHandler
 		this.extracellsBlacklist = this.configSettings.getBoolean( "ExtraCells Blacklist", ConfigurationHandler.CATEGORY_INTEGRATION,
 			ConfigurationHandler.DEFAULT_EXTRACELLS_BLIST, "Prevents extra cells from interacting with essentia gas" );
 
+		// Storage bus tick rate
+		this.storageBusMaxTickRate = this.configSettings.getInt( "Storage Bus Max Tick Rate", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_STORAGEBUS_MAX_TICKRATE, 20, 600,
+			"Slowest rate, in ticks, that an essentia storage bus will check an unchanging container for changes. "
+							+ "The bus returns to checking every 20 ticks as soon as a change is seen." );
+
+		// Packet compression
+		this.packetCompressionLevel = this.configSettings.getInt( "Packet Compression Level", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_COMPRESSION_LEVEL, 0, 9,
+			"Compression level used for large packets, such as full terminal lists. Lower values use less server time, higher values use less bandwidth." );
+		this.packetCompressionThreshold = this.configSettings.getInt( "Packet Compression Threshold", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_COMPRESSION_THRESHOLD, 0, 1048576, "Packets smaller than this many bytes are sent without compression." );
+
+		// Level emitter
+		this.levelEmitterMinHoldTicks = this.configSettings.getInt( "Level Emitter Min Hold Ticks", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_EMITTER_MIN_HOLD_TICKS, 0, 1200,
+			"Minimum number of ticks an essentia level emitter keeps its redstone output before it can change again." );
+
+		// Essentia transport
+		this.essentiaTransportBatchSize = this.configSettings.getInt( "Essentia Transport Batch Size", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_TRANSPORT_BATCH_SIZE, 1, 1024,
+			"Most essentia that an Essentia Provider or Vibration Chamber will pull from a single neighboring tube or container at once." );
+
+		// Infusion provider buffer
+		this.infusionProviderBufferSize = this.configSettings.getInt( "Infusion Provider Buffer Size", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_INFUSION_BUFFER_SIZE, 0, 256,
+			"How much of an aspect an Infusion Provider takes from the network at once during an infusion. "
+							+ "Anything not used is returned to the network shortly after the infusion stops pulling. Set to 0 to disable the buffer." );
+
+		// Arcane assembler queue
+		this.arcaneAssemblerQueueDepth = this.configSettings.getInt( "Arcane Assembler Queue Depth", ConfigurationHandler.CATEGORY_PERFORMANCE,
+			ConfigurationHandler.DEFAULT_ASSEMBLER_QUEUE_DEPTH, 1, 64,
+			"Number of crafts an Arcane Assembler will accept from the network at once. "
+							+ "Each acceleration card lets the assembler work on one more of these crafts at the same time." );
+
 		// Has the config file changed?
 		if( this.configSettings.hasChanged() )
 		{
@@ -142,6 +217,12 @@ class ConfigurationHandler
 		return this.allowCertusDupe;
 	}
 
+	@Override
+	public int arcaneAssemblerQueueDepth()
+	{
+		return this.arcaneAssemblerQueueDepth;
+	}
+
 	@Override
 	public boolean blacklistEssentiaFluidInExtraCells()
 	{
@@ -154,10 +235,46 @@ class ConfigurationHandler
 		return this.conversionMultiplier;
 	}
 
+	@Override
+	public int essentiaTransportBatchSize()
+	{
+		return this.essentiaTransportBatchSize;
+	}
+
 	@Override
 	public boolean gearboxModelDisabled()
 	{
 		return this.gearboxModelDisabled;
 	}
 
+	@Override
+	public int infusionProviderBufferSize()
+	{
+		return this.infusionProviderBufferSize;
+	}
+
+	@Override
+	public int levelEmitterMinHoldTicks()
+	{
+		return this.levelEmitterMinHoldTicks;
+	}
+
+	@Override
+	public int packetCompressionLevel()
+	{
+		return this.packetCompressionLevel;
+	}
+
+	@Override
+	public int packetCompressionThreshold()
+	{
+		return this.packetCompressionThreshold;
+	}
+
+	@Override
+	public int storageBusMaxTickRate()
+	{
+		return this.storageBusMaxTickRate;
+	}
+
 }
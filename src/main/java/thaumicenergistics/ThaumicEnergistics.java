@@ -5,6 +5,8 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import thaumicenergistics.api.IThEConfig;
 import thaumicenergistics.api.ThEApi;
+import thaumicenergistics.grid.DigiVisSourceCache;
+import thaumicenergistics.grid.IDigiVisSourceCache;
 import thaumicenergistics.gui.ThEGuiHandler;
 import thaumicenergistics.integration.IntegrationCore;
 import thaumicenergistics.integration.tc.EssentiaItemContainerHelper;
@@ -13,6 +15,8 @@ import thaumicenergistics.network.ChannelHandler;
 import thaumicenergistics.proxy.CommonProxy;
 import thaumicenergistics.registries.AEAspectRegister;
 import thaumicenergistics.util.ThELog;
+import appeng.api.AEApi;
+import cpw.mods.fml.common.Loader;
 import cpw.mods.fml.common.LoaderState;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.Mod.EventHandler;
@@ -109,6 +113,9 @@ public class ThaumicEnergistics
 		// Register network messages
 		ChannelHandler.registerMessages();
 
+		// Register grid caches
+		AEApi.instance().registries().gridCache().registerGridCache( IDigiVisSourceCache.class, DigiVisSourceCache.class );
+
 		// Register integration
 		IntegrationCore.init();
 
@@ -144,7 +151,7 @@ public class ThaumicEnergistics
 		// Give AE items aspects
 		try
 		{
-			AEAspectRegister.INSTANCE.registerAEAspects();
+			AEAspectRegister.INSTANCE.registerAEAspects( Loader.instance().getConfigDir() );
 		}
 		catch( Exception e )
 		{
@@ -17,6 +17,11 @@ public interface IThEConfig
 	 */
 	public boolean allowedToDuplicateCertusQuartz();
 
+	/**
+	 * Number of crafts an arcane assembler will accept at once.
+	 */
+	public int arcaneAssemblerQueueDepth();
+
 	/**
 	 * If true essentia gas will be blacklisted from ExtraCells.
 	 * 
@@ -30,9 +35,43 @@ public interface IThEConfig
 	 */
 	public int conversionMultiplier();
 
+	/**
+	 * Most essentia a device will pull from a single neighboring transport at
+	 * once.
+	 */
+	public int essentiaTransportBatchSize();
+
 	/**
 	 * If true the iron and thaumium gearbox's will be rendered as a standard
 	 * block.
 	 */
 	public boolean gearboxModelDisabled();
+
+	/**
+	 * How much of an aspect an infusion provider fetches from the network at
+	 * once, 0 if it should not buffer.
+	 */
+	public int infusionProviderBufferSize();
+
+	/**
+	 * Minimum number of ticks a level emitter keeps its output before it can
+	 * change again.
+	 */
+	public int levelEmitterMinHoldTicks();
+
+	/**
+	 * Deflate level, 0-9, used when compressing large packets.
+	 */
+	public int packetCompressionLevel();
+
+	/**
+	 * Packets smaller than this many bytes are sent uncompressed.
+	 */
+	public int packetCompressionThreshold();
+
+	/**
+	 * Slowest rate, in ticks, that an idle essentia storage bus will check its
+	 * container for changes.
+	 */
+	public int storageBusMaxTickRate();
 }
@@ -0,0 +1,75 @@
+package thaumicenergistics.aspect;
+
+import java.util.BitSet;
+import thaumcraft.api.aspects.Aspect;
+
+/**
+ * Set of filtered aspects, stored as bits over the aspect ordinals from
+ * {@link AspectIndex}.
+ * <BR>
+ * Built from the filter slots whenever they are edited, so that checking an
+ * aspect against the filter does not walk the slots.
+ * 
+ * @author Nividica
+ * 
+ */
+public final class AspectFilter
+{
+	/**
+	 * Bit set for each filtered aspect ordinal.
+	 */
+	private final BitSet filtered = new BitSet();
+
+	/**
+	 * True if no aspects are filtered.
+	 */
+	private boolean isEmpty = true;
+
+	/**
+	 * Returns true if the aspect is filtered.
+	 * 
+	 * @param aspect
+	 * @return
+	 */
+	public boolean contains( final Aspect aspect )
+	{
+		int index = AspectIndex.getIndex( aspect );
+
+		return( ( index >= 0 ) && this.filtered.get( index ) );
+	}
+
+	/**
+	 * Returns true if no aspects are filtered.
+	 * 
+	 * @return
+	 */
+	public boolean isEmpty()
+	{
+		return this.isEmpty;
+	}
+
+	/**
+	 * Replaces the filter with the specified aspects.
+	 * 
+	 * @param aspects
+	 * Filter slots, null slots are skipped.
+	 */
+	public void set( final Iterable<Aspect> aspects )
+	{
+		this.filtered.clear();
+
+		if( aspects != null )
+		{
+			for( Aspect aspect : aspects )
+			{
+				int index = AspectIndex.getIndex( aspect );
+				if( index >= 0 )
+				{
+					this.filtered.set( index );
+				}
+			}
+		}
+
+		this.isEmpty = this.filtered.isEmpty();
+	}
+}
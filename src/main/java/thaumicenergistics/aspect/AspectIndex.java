@@ -0,0 +1,163 @@
+package thaumicenergistics.aspect;
+
+import java.util.IdentityHashMap;
+import thaumcraft.api.aspects.Aspect;
+
+/**
+ * Assigns every registered aspect a stable, dense ordinal so that per-aspect
+ * data can be stored in plain arrays instead of maps and lists.
+ * <BR>
+ * Ordinals follow the registration order of {@link Aspect#aspects}, and are
+ * never reassigned. Aspects registered late by other mods are appended the
+ * first time they are seen.
+ * 
+ * @author Nividica
+ * 
+ */
+public final class AspectIndex
+{
+	/**
+	 * Immutable view of the index.
+	 */
+	private static final class Snapshot
+	{
+		/**
+		 * Aspect -> ordinal
+		 */
+		final IdentityHashMap<Aspect, Integer> ordinals;
+
+		/**
+		 * Ordinal -> aspect
+		 */
+		final Aspect[] aspects;
+
+		Snapshot( final IdentityHashMap<Aspect, Integer> ordinals, final Aspect[] aspects )
+		{
+			this.ordinals = ordinals;
+			this.aspects = aspects;
+		}
+	}
+
+	/**
+	 * Current snapshot.
+	 * Replaced, never modified, so that the client and server threads can
+	 * both read it without locking.
+	 */
+	private static volatile Snapshot snapshot = new Snapshot( new IdentityHashMap<Aspect, Integer>(), new Aspect[0] );
+
+	/**
+	 * Cannot be instantiated.
+	 */
+	private AspectIndex()
+	{
+	}
+
+	/**
+	 * Rebuilds the snapshot if Thaumcraft has registered new aspects.
+	 * 
+	 * @return
+	 */
+	private static synchronized Snapshot refresh()
+	{
+		Snapshot current = AspectIndex.snapshot;
+
+		// Has the aspect list grown?
+		if( Aspect.aspects.size() == current.aspects.length )
+		{
+			return current;
+		}
+
+		// Copy the existing ordinals
+		IdentityHashMap<Aspect, Integer> ordinals = new IdentityHashMap<Aspect, Integer>( current.ordinals );
+		Aspect[] aspects = new Aspect[Math.max( current.aspects.length, Aspect.aspects.size() )];
+		System.arraycopy( current.aspects, 0, aspects, 0, current.aspects.length );
+		int count = current.aspects.length;
+
+		// Append any new aspects
+		for( Aspect aspect : Aspect.aspects.values() )
+		{
+			if( !ordinals.containsKey( aspect ) )
+			{
+				if( count == aspects.length )
+				{
+					Aspect[] grown = new Aspect[count + 1];
+					System.arraycopy( aspects, 0, grown, 0, count );
+					aspects = grown;
+				}
+				ordinals.put( aspect, count );
+				aspects[count++ ] = aspect;
+			}
+		}
+
+		AspectIndex.snapshot = new Snapshot( ordinals, aspects );
+
+		return AspectIndex.snapshot;
+	}
+
+	/**
+	 * Gets the aspect with the specified ordinal.
+	 * 
+	 * @param ordinal
+	 * @return Aspect, or null if the ordinal is out of range.
+	 */
+	public static Aspect getAspect( final int ordinal )
+	{
+		Snapshot current = AspectIndex.snapshot;
+
+		if( ( ordinal < 0 ) || ( ordinal >= current.aspects.length ) )
+		{
+			return null;
+		}
+
+		return current.aspects[ordinal];
+	}
+
+	/**
+	 * Gets the ordinal of the specified aspect.
+	 * 
+	 * @param aspect
+	 * @return Ordinal, or -1 if the aspect is null.
+	 */
+	public static int getIndex( final Aspect aspect )
+	{
+		if( aspect == null )
+		{
+			return -1;
+		}
+
+		// Check the current snapshot
+		Integer ordinal = AspectIndex.snapshot.ordinals.get( aspect );
+
+		// Unknown aspect?
+		if( ordinal == null )
+		{
+			// Refresh and try again
+			ordinal = AspectIndex.refresh().ordinals.get( aspect );
+			if( ordinal == null )
+			{
+				return -1;
+			}
+		}
+
+		return ordinal;
+	}
+
+	/**
+	 * Number of aspects currently indexed.
+	 * Arrays sized by this value can hold an entry for every known aspect.
+	 * 
+	 * @return
+	 */
+	public static int size()
+	{
+		Snapshot current = AspectIndex.snapshot;
+
+		// Has the aspect list grown?
+		if( Aspect.aspects.size() == current.aspects.length )
+		{
+			return current.aspects.length;
+		}
+
+		return AspectIndex.refresh().aspects.length;
+	}
+}
@@ -130,6 +130,9 @@ public class BlockArcaneAssembler
 
 			if( tileAssembler instanceof TileArcaneAssembler )
 			{
+				// Inform the tile it is being broken
+				( (TileArcaneAssembler)tileAssembler ).onBreak();
+
 				// Get the drops
 				ArrayList<ItemStack> drops = new ArrayList<ItemStack>();
 				( (TileArcaneAssembler)tileAssembler ).getDrops( world, x, y, z, drops );
@@ -138,9 +141,6 @@ public class BlockArcaneAssembler
 				{
 					world.spawnEntityInWorld( new EntityItem( world, 0.5 + x, 0.5 + y, 0.2 + z, drop ) );
 				}
-
-				// Inform the tile it is being broken
-				( (TileArcaneAssembler)tileAssembler ).onBreak();
 			}
 		}
 
@@ -1,6 +1,7 @@
 package thaumicenergistics.container;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.PositionedSoundRecord;
@@ -12,6 +13,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.aspect.AspectIndex;
 import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.aspect.AspectStackComparator.ComparatorMode;
 import thaumicenergistics.container.slot.SlotRestrictive;
@@ -156,6 +158,17 @@ public abstract class AbstractContainerCellTerminalBase
 	 */
 	private List<AspectStack> pendingChanges = new ArrayList<AspectStack>();
 
+	/**
+	 * Net network changes, in fluid units, that have not yet been sent to the
+	 * client. Indexed by aspect ordinal.
+	 */
+	private long[] queuedChanges = new long[0];
+
+	/**
+	 * Set to true when there are queued changes to send.
+	 */
+	private boolean hasQueuedChanges = false;
+
 	/**
 	 * Tracks the number of ticks
 	 */
@@ -473,6 +486,75 @@ public abstract class AbstractContainerCellTerminalBase
 		return true;
 	}
 
+	/**
+	 * Adds a network change to the queue, netting it against any queued change
+	 * for the same aspect.
+	 * 
+	 * @param aspect
+	 * @param fluidAmount
+	 */
+	private void queueChange( final Aspect aspect, final long fluidAmount )
+	{
+		int ordinal = AspectIndex.getIndex( aspect );
+		if( ordinal < 0 )
+		{
+			return;
+		}
+
+		// Ensure the queue can hold the aspect
+		if( ordinal >= this.queuedChanges.length )
+		{
+			long[] expanded = new long[AspectIndex.size()];
+			System.arraycopy( this.queuedChanges, 0, expanded, 0, this.queuedChanges.length );
+			this.queuedChanges = expanded;
+		}
+
+		// Net the change
+		this.queuedChanges[ordinal] += fluidAmount;
+		this.hasQueuedChanges = true;
+	}
+
+	/**
+	 * Sends all queued changes to the client as a single packet.
+	 */
+	private void sendQueuedChanges()
+	{
+		// Any changes?
+		if( !this.hasQueuedChanges )
+		{
+			return;
+		}
+		this.hasQueuedChanges = false;
+
+		List<AspectStack> changes = new ArrayList<AspectStack>();
+
+		for( int ordinal = 0; ordinal < this.queuedChanges.length; ordinal++ )
+		{
+			// Skip aspects that netted out
+			if( this.queuedChanges[ordinal] == 0 )
+			{
+				continue;
+			}
+
+			// Convert to essentia units
+			long essentiaAmount = EssentiaConversionHelper.INSTANCE.convertFluidAmountToEssentiaAmount( this.queuedChanges[ordinal] );
+
+			// Reset the queue
+			this.queuedChanges[ordinal] = 0;
+
+			if( essentiaAmount != 0 )
+			{
+				changes.add( new AspectStack( AspectIndex.getAspect( ordinal ), essentiaAmount ) );
+			}
+		}
+
+		// Send the changes
+		if( !changes.isEmpty() )
+		{
+			new PacketClientEssentiaCellTerminal().createListChanged( this.player, changes ).sendPacketToPlayer();
+		}
+	}
+
 	/**
 	 * Merges the specified stack with the output slot.
 	 * 
@@ -691,6 +773,22 @@ public abstract class AbstractContainerCellTerminalBase
 	 */
 	protected abstract boolean extractPowerForEssentiaTransfer( int amountOfEssentiaTransfered, Actionable mode );
 
+	/**
+	 * Sends the full aspect list to the client. Queued changes are already
+	 * part of the list, so they are discarded.
+	 * 
+	 * @param aspectStackList
+	 */
+	protected void sendFullAspectList( final List<AspectStack> aspectStackList )
+	{
+		// Clear the queue
+		Arrays.fill( this.queuedChanges, 0L );
+		this.hasQueuedChanges = false;
+
+		// Send the list
+		new PacketClientEssentiaCellTerminal().createUpdateFullList( this.player, aspectStackList ).sendPacketToPlayer();
+	}
+
 	/**
 	 * Transfers essentia in or out of the system.
 	 * 
@@ -840,6 +938,9 @@ public abstract class AbstractContainerCellTerminalBase
 		// Call super
 		super.detectAndSendChanges();
 
+		// Send any network changes
+		this.sendQueuedChanges();
+
 		// Inc tick tracker
 		this.tickCounter += 1;
 
@@ -1045,6 +1146,25 @@ public abstract class AbstractContainerCellTerminalBase
 		return false;
 	}
 
+	/**
+	 * Called by the gui when a batch of changes arrives.
+	 * 
+	 * @param changes
+	 * @return True if the gui should update.
+	 */
+	public boolean onReceivedAspectListChanges( final List<AspectStack> changes )
+	{
+		boolean updateGui = false;
+
+		// Merge each change
+		for( int index = 0; index < changes.size(); index++ )
+		{
+			updateGui |= this.onReceivedAspectListChange( changes.get( index ) );
+		}
+
+		return updateGui;
+	}
+
 	/**
 	 * Called when the the selected aspect has changed.
 	 * 
@@ -1085,9 +1205,8 @@ public abstract class AbstractContainerCellTerminalBase
 				continue;
 			}
 
-			// Update the client
-			new PacketClientEssentiaCellTerminal().createListChanged( this.player,
-				EssentiaConversionHelper.INSTANCE.convertAEFluidStackToAspectStack( change ) ).sendPacketToPlayer();
+			// Queue the change, it will be sent on the next tick
+			this.queueChange( ( (GaseousEssentia)change.getFluid() ).getAspect(), change.getStackSize() );
 		}
 	}
 
@@ -218,11 +218,11 @@ public class ContainerEssentiaCell
 		// Send the list
 		if( ( this.monitor != null ) && ( this.hostChest.isPowered() ) )
 		{
-			new PacketClientEssentiaCellTerminal().createUpdateFullList( this.player, this.aspectStackList ).sendPacketToPlayer();
+			this.sendFullAspectList( this.aspectStackList );
 		}
 		else
 		{
-			new PacketClientEssentiaCellTerminal().createUpdateFullList( this.player, new ArrayList<AspectStack>() ).sendPacketToPlayer();
+			this.sendFullAspectList( new ArrayList<AspectStack>() );
 
 		}
 	}
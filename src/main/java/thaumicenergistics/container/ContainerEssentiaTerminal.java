@@ -103,7 +103,7 @@ public class ContainerEssentiaTerminal
 		// Send the aspect list
 		if( this.monitor != null )
 		{
-			new PacketClientEssentiaCellTerminal().createUpdateFullList( this.player, this.aspectStackList ).sendPacketToPlayer();
+			this.sendFullAspectList( this.aspectStackList );
 		}
 	}
 
@@ -8,8 +8,8 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.inventory.Slot;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraftforge.oredict.OreDictionary;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.AspectList;
@@ -24,6 +24,7 @@ import thaumicenergistics.network.packet.client.PacketClientArcaneCraftingTermin
 import thaumicenergistics.parts.AEPartArcaneCraftingTerminal;
 import thaumicenergistics.util.EffectiveSide;
 import thaumicenergistics.util.GuiHelper;
+import thaumicenergistics.util.ThELog;
 import thaumicenergistics.util.ThEUtils;
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
@@ -122,9 +123,14 @@ public class ContainerPartArcaneCraftingTerminal
 	public static int ARMOR_SLOT_X_POS = 8, ARMOR_SLOT_Y_POS = 81, ARMOR_SLOT_COUNT = 4;
 
 	/**
-	 * Cache the crafting manager instance
+	 * Number of item stacks sent in each full list packet.
 	 */
-	private static CraftingManager CRAFT_MANAGER = CraftingManager.getInstance();
+	private static final int FULL_LIST_CHUNK_SIZE = 256;
+
+	/**
+	 * Number of full list packets sent each tick.
+	 */
+	private static final int FULL_LIST_CHUNKS_PER_TICK = 4;
 
 	/**
 	 * The arcane crafting terminal associated with the container.
@@ -182,6 +188,64 @@ public class ContainerPartArcaneCraftingTerminal
 	 */
 	private PlayerSource playerSource;
 
+	/**
+	 * Items from the network waiting to be sent to the client as part of a full
+	 * list update.
+	 */
+	private List<IAEItemStack> pendingFullList = null;
+
+	/**
+	 * Index of the next item to send from the pending full list.
+	 */
+	private int pendingFullListIndex = 0;
+
+	/**
+	 * Items whose network amount has changed since the last tick.
+	 */
+	private IItemList<IAEItemStack> pendingChanges = null;
+
+	/**
+	 * Item ID, damage, and NBT hash of each grid slot, followed by the wand,
+	 * as of the last recipe lookup.
+	 */
+	private final int[] matchKey = new int[( ContainerPartArcaneCraftingTerminal.CRAFTING_GRID_TOTAL_SIZE + 1 ) * 3];
+
+	/**
+	 * Key of the grid and wand as of the current recipe lookup.
+	 */
+	private final int[] currentMatchKey = new int[this.matchKey.length];
+
+	/**
+	 * World tick the last recipe lookup was made on, or -1 if there has not
+	 * been one.
+	 */
+	private long matchTick = -1;
+
+	/**
+	 * Results of the last recipe lookup.
+	 */
+	private ItemStack matchRegularResult, matchResult;
+
+	/**
+	 * Arcane recipe found by the last recipe lookup.
+	 */
+	private IArcaneRecipe matchArcaneRecipe;
+
+	/**
+	 * Aspect cost found by the last recipe lookup.
+	 */
+	private AspectList matchRequiredAspects;
+
+	/**
+	 * Crafting cost found by the last recipe lookup.
+	 */
+	private final List<ArcaneCrafingCost> matchCraftingCost = new ArrayList<ArcaneCrafingCost>();
+
+	/**
+	 * Number of recipe lookups, and how many of those reused the last match.
+	 */
+	private int matchLookups = 0, matchHits = 0;
+
 	/**
 	 * Creates the container
 	 * 
@@ -551,7 +615,7 @@ public class ContainerPartArcaneCraftingTerminal
 		}
 
 		// Return the result
-		return CRAFT_MANAGER.findMatchingRecipe( craftingInventory, this.arcaneCraftingTerminalPart.getWorldObj() );
+		return ArcaneRecipeHelper.INSTANCE.findMatchingRegularResult( craftingInventory, this.arcaneCraftingTerminalPart.getWorldObj() );
 	}
 
 	/**
@@ -614,6 +678,27 @@ public class ContainerPartArcaneCraftingTerminal
 		this.wand = null;
 	}
 
+	/**
+	 * Returns true if the specified region of the current match key is the
+	 * same as the last match key.
+	 * 
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	private boolean isMatchKeyRegionEqual( final int start, final int end )
+	{
+		for( int index = start; index < end; ++index )
+		{
+			if( this.currentMatchKey[index] != this.matchKey[index] )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Attempts to inject an itemstack into the ME network.
 	 * Adjusts the stack size of the specified itemstack according to
@@ -692,6 +777,93 @@ public class ContainerPartArcaneCraftingTerminal
 		return false;
 	}
 
+	/**
+	 * Sends the current amount of every changed item to the client in a
+	 * single packet.
+	 */
+	private void sendPendingChanges()
+	{
+		// Any changes?
+		if( ( this.pendingChanges == null ) || ( this.monitor == null ) )
+		{
+			return;
+		}
+
+		// Get the network list
+		IItemList<IAEItemStack> storageList = this.monitor.getStorageList();
+
+		List<IAEItemStack> changes = new ArrayList<IAEItemStack>( this.pendingChanges.size() );
+		for( IAEItemStack change : this.pendingChanges )
+		{
+			// Get the total amount of the item in the network
+			IAEItemStack newAmount = storageList.findPrecise( change );
+
+			// Is there no more?
+			if( newAmount == null )
+			{
+				// Copy the item type from the change
+				newAmount = change.copy();
+
+				// Set amount to 0
+				newAmount.setStackSize( 0 );
+			}
+
+			changes.add( newAmount );
+		}
+
+		// Clear the pending changes
+		this.pendingChanges = null;
+
+		// Did the changes cancel each other out?
+		if( changes.isEmpty() )
+		{
+			return;
+		}
+
+		// Send the changes to the client
+		new PacketClientArcaneCraftingTerminal().createChangeUpdate( this.player, changes ).sendPacketToPlayer();
+	}
+
+	/**
+	 * Sends the next few chunks of the pending full list to the client.
+	 */
+	private void sendFullListChunks()
+	{
+		// Is there anything to send?
+		if( this.pendingFullList == null )
+		{
+			return;
+		}
+
+		for( int chunkCount = 0; chunkCount < ContainerPartArcaneCraftingTerminal.FULL_LIST_CHUNKS_PER_TICK; chunkCount++ )
+		{
+			// Calculate the end of the chunk
+			int chunkEnd = Math.min( this.pendingFullListIndex + ContainerPartArcaneCraftingTerminal.FULL_LIST_CHUNK_SIZE,
+				this.pendingFullList.size() );
+
+			// Copy the chunk, so that the amounts sent are current
+			List<IAEItemStack> chunk = new ArrayList<IAEItemStack>( chunkEnd - this.pendingFullListIndex );
+			for( ; this.pendingFullListIndex < chunkEnd; this.pendingFullListIndex++ )
+			{
+				chunk.add( this.pendingFullList.get( this.pendingFullListIndex ).copy() );
+			}
+
+			// Is this the last chunk?
+			boolean isLastChunk = ( this.pendingFullListIndex >= this.pendingFullList.size() );
+
+			// Send to the client
+			new PacketClientArcaneCraftingTerminal().createFullListUpdate( this.player, chunk, isLastChunk ).sendPacketToPlayer();
+
+			if( isLastChunk )
+			{
+				// Done
+				this.pendingFullList = null;
+				this.pendingFullListIndex = 0;
+				return;
+			}
+		}
+	}
+
 	/**
 	 * Informs the GUI that the view cells have changed
 	 */
@@ -788,6 +960,28 @@ public class ContainerPartArcaneCraftingTerminal
 
 	}
 
+	/**
+	 * Writes the item ID, damage, and NBT hash of the stack into the current
+	 * match key.
+	 * 
+	 * @param stack
+	 * @param offset
+	 */
+	private void writeMatchKey( final ItemStack stack, final int offset )
+	{
+		if( ( stack == null ) || ( stack.getItem() == null ) )
+		{
+			this.currentMatchKey[offset] = -1;
+			this.currentMatchKey[offset + 1] = 0;
+			this.currentMatchKey[offset + 2] = 0;
+			return;
+		}
+
+		this.currentMatchKey[offset] = Item.getIdFromItem( stack.getItem() );
+		this.currentMatchKey[offset + 1] = stack.getItemDamage();
+		this.currentMatchKey[offset + 2] = ( stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0 );
+	}
+
 	/**
 	 * Checks if the slot number belongs to the crafting matrix
 	 * 
@@ -832,6 +1026,23 @@ public class ContainerPartArcaneCraftingTerminal
 		}
 	}
 
+	/**
+	 * Sends any pending network changes and full list chunks to the client.
+	 */
+	@Override
+	public void detectAndSendChanges()
+	{
+		// Call super
+		super.detectAndSendChanges();
+
+		// Is this server side?
+		if( EffectiveSide.isServerSide() )
+		{
+			this.sendPendingChanges();
+			this.sendFullListChunks();
+		}
+	}
+
 	/**
 	 * Gets the aspect cost and how much is missing for the current recipe.
 	 * 
@@ -1231,8 +1442,16 @@ public class ContainerPartArcaneCraftingTerminal
 			// Get the full list
 			IItemList<IAEItemStack> fullList = this.monitor.getStorageList();
 
-			// Send to the client
-			new PacketClientArcaneCraftingTerminal().createFullListUpdate( player, fullList ).sendPacketToPlayer();
+			// Queue the items, they will be sent in chunks over the next few ticks
+			this.pendingFullList = new ArrayList<IAEItemStack>( fullList.size() );
+			this.pendingFullListIndex = 0;
+			for( IAEItemStack stack : fullList )
+			{
+				this.pendingFullList.add( stack );
+			}
+
+			// Send the first chunks
+			this.sendFullListChunks();
 		}
 	}
 
@@ -1270,6 +1489,13 @@ public class ContainerPartArcaneCraftingTerminal
 		// Pass to super
 		super.onContainerClosed( player );
 
+		// Report how often the last recipe match was reused
+		if( this.matchLookups > 0 )
+		{
+			ThELog.debug( "Arcane crafting terminal recipe cache: %d lookups, %d hits (%.1f%%)", this.matchLookups, this.matchHits,
+				( this.matchHits * 100.0F ) / this.matchLookups );
+		}
+
 		if( this.arcaneCraftingTerminalPart != null )
 		{
 			this.arcaneCraftingTerminalPart.removeListener( this );
@@ -1298,15 +1524,72 @@ public class ContainerPartArcaneCraftingTerminal
 		// Ensure wand
 		this.getWand();
 
-		// Get the matching regular crafting recipe.
-		ItemStack craftResult = this.findMatchingRegularResult();
+		// Build the key for the grid and wand
+		int gridKeyLength = ContainerPartArcaneCraftingTerminal.CRAFTING_GRID_TOTAL_SIZE * 3;
+		for( int slotIndex = 0; slotIndex < ContainerPartArcaneCraftingTerminal.CRAFTING_GRID_TOTAL_SIZE; ++slotIndex )
+		{
+			this.writeMatchKey( this.arcaneCraftingTerminalPart.getStackInSlot( slotIndex ), slotIndex * 3 );
+		}
+		this.writeMatchKey( this.wand, gridKeyLength );
+
+		// Is the grid the same as the last lookup, during the same tick?
+		long tick = this.player.worldObj.getTotalWorldTime();
+		boolean gridMatches = ( this.matchTick == tick ) && this.isMatchKeyRegionEqual( 0, gridKeyLength );
 
-		// Was there not a regular match?
-		if( ( craftResult == null ) )
+		ItemStack craftResult;
+		++this.matchLookups;
+		if( gridMatches )
 		{
-			// Get the matching arcane crafting recipe.
-			craftResult = this.findMatchingArcaneResult();
+			++this.matchHits;
+
+			// Has the wand changed?
+			if( !this.isMatchKeyRegionEqual( gridKeyLength, this.matchKey.length ) && ( this.matchArcaneRecipe != null ) )
+			{
+				// Revalidate the arcane recipe
+				this.matchResult = this.validateWandVisAmount( this.matchArcaneRecipe );
+				this.matchRequiredAspects = this.requiredAspects;
+				this.matchCraftingCost.clear();
+				this.matchCraftingCost.addAll( this.craftingCost );
+			}
+			else
+			{
+				// Reuse the last result
+				this.requiredAspects = this.matchRequiredAspects;
+				this.craftingCost.addAll( this.matchCraftingCost );
+			}
 		}
+		else
+		{
+			// Get the matching regular crafting recipe.
+			this.matchRegularResult = this.findMatchingRegularResult();
+			this.matchArcaneRecipe = null;
+			this.matchResult = this.matchRegularResult;
+
+			// Was there not a regular match?
+			if( this.matchRegularResult == null )
+			{
+				// Get the matching arcane crafting recipe.
+				this.matchArcaneRecipe = ArcaneRecipeHelper.INSTANCE.findMatchingArcaneResult( this.arcaneCraftingTerminalPart, 0,
+					ContainerPartArcaneCraftingTerminal.CRAFTING_GRID_TOTAL_SIZE, this.player );
+
+				if( this.matchArcaneRecipe != null )
+				{
+					// Found a match, validate it.
+					this.matchResult = this.validateWandVisAmount( this.matchArcaneRecipe );
+				}
+			}
+
+			this.matchTick = tick;
+			this.matchRequiredAspects = this.requiredAspects;
+			this.matchCraftingCost.clear();
+			this.matchCraftingCost.addAll( this.craftingCost );
+		}
+
+		// Remember the key
+		System.arraycopy( this.currentMatchKey, 0, this.matchKey, 0, this.matchKey.length );
+
+		// Hand out a copy so the cached result is never modified
+		craftResult = ItemStack.copyItemStack( this.matchResult );
 
 		// Get the result slot
 		SlotArcaneCraftingResult resultSlot = (SlotArcaneCraftingResult)this.getSlot( this.resultSlotNumber );
@@ -1349,23 +1632,16 @@ public class ContainerPartArcaneCraftingTerminal
 	@Override
 	public void postChange( final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> changes, final BaseActionSource actionSource )
 	{
-		for( IAEItemStack change : changes )
+		// Create the pending list if needed
+		if( this.pendingChanges == null )
 		{
-			// Get the total amount of the item in the network
-			IAEItemStack newAmount = this.monitor.getStorageList().findPrecise( change );
-
-			// Is there no more?
-			if( newAmount == null )
-			{
-				// Copy the item type from the change
-				newAmount = change.copy();
-
-				// Set amount to 0
-				newAmount.setStackSize( 0 );
-			}
+			this.pendingChanges = AEApi.instance().storage().createItemList();
+		}
 
-			// Send the change to the client
-			new PacketClientArcaneCraftingTerminal().createChangeUpdate( this.player, newAmount ).sendPacketToPlayer();
+		// Mark each item as changed, the amounts are sent on the next tick
+		for( IAEItemStack change : changes )
+		{
+			this.pendingChanges.add( change );
 		}
 	}
 
@@ -191,7 +191,7 @@ public class ContainerWirelessEssentiaTerminal
 		new PacketClientEssentiaCellTerminal().createSortModeUpdate( this.player, this.handler.getSortingMode() ).sendPacketToPlayer();
 
 		// Send the list
-		new PacketClientEssentiaCellTerminal().createUpdateFullList( this.player, this.aspectStackList ).sendPacketToPlayer();
+		this.sendFullAspectList( this.aspectStackList );
 	}
 
 	@Override
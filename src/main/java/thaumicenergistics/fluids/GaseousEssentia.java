@@ -1,5 +1,6 @@
 package thaumicenergistics.fluids;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import net.minecraft.util.IIcon;
@@ -8,6 +9,7 @@ import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import thaumcraft.api.aspects.Aspect;
 import thaumicenergistics.api.IThEEssentiaGas;
+import thaumicenergistics.aspect.AspectIndex;
 import thaumicenergistics.registries.ThEStrings;
 import thaumicenergistics.texture.BlockTextureManager;
 import thaumicenergistics.util.ThELog;
@@ -27,11 +29,22 @@ public class GaseousEssentia
 	 */
 	public static final LinkedHashMap<Aspect, GaseousEssentia> gasList = new LinkedHashMap<Aspect, GaseousEssentia>();
 
+	/**
+	 * Gases by aspect ordinal.
+	 * Replaced, never modified, when a gas is created.
+	 */
+	private static volatile GaseousEssentia[] gasesByIndex = new GaseousEssentia[0];
+
 	/**
 	 * The aspect the gas is based off of.
 	 */
 	private Aspect associatedAspect;
 
+	/**
+	 * Ordinal of the associated aspect.
+	 */
+	private final int aspectIndex;
+
 	/**
 	 * Creates the gas.
 	 * 
@@ -47,6 +60,7 @@ public class GaseousEssentia
 
 		// Set the aspect
 		this.associatedAspect = aspect;
+		this.aspectIndex = AspectIndex.getIndex( aspect );
 
 		// Gas slightly glows
 		this.setLuminosity( 7 );
@@ -88,6 +102,12 @@ public class GaseousEssentia
 			// Add to the list
 			gasList.put( aspect, newGas );
 
+			// Add to the index
+			GaseousEssentia[] gases = Arrays.copyOf( GaseousEssentia.gasesByIndex,
+				Math.max( GaseousEssentia.gasesByIndex.length, AspectIndex.size() ) );
+			gases[newGas.getAspectIndex()] = newGas;
+			GaseousEssentia.gasesByIndex = gases;
+
 			// Log info
 			ThELog.info( "Created fluid for aspect %s.", aspect.getTag() );
 		}
@@ -100,14 +120,29 @@ public class GaseousEssentia
 	}
 
 	/**
-	 * Gets the gas form of the specified aspect
+	 * Gets the gas form of the specified aspect.
+	 * Callers that already hold an aspect ordinal should use
+	 * {@link #getGasFromIndex(int)} instead.
 	 * 
 	 * @param aspect
 	 * @return
 	 */
 	public static GaseousEssentia getGasFromAspect( final Aspect aspect )
 	{
-		return GaseousEssentia.gasList.get( aspect );
+		return GaseousEssentia.getGasFromIndex( AspectIndex.getIndex( aspect ) );
+	}
+
+	/**
+	 * Gets the gas form of the aspect with the specified ordinal.
+	 * 
+	 * @param aspectIndex
+	 * @return Gas, or null if the aspect has no gas.
+	 */
+	public static GaseousEssentia getGasFromIndex( final int aspectIndex )
+	{
+		GaseousEssentia[] gases = GaseousEssentia.gasesByIndex;
+
+		return( ( aspectIndex >= 0 ) && ( aspectIndex < gases.length ) ? gases[aspectIndex] : null );
 	}
 
 	/**
@@ -142,6 +177,16 @@ public class GaseousEssentia
 		return this.associatedAspect;
 	}
 
+	/**
+	 * Gets the ordinal of the aspect this gas is based off of.
+	 * 
+	 * @return
+	 */
+	public int getAspectIndex()
+	{
+		return this.aspectIndex;
+	}
+
 	/**
 	 * Gets the color of the gas.
 	 */
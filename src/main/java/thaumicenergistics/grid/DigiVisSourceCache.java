@@ -0,0 +1,230 @@
+package thaumicenergistics.grid;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.integration.tc.IDigiVisConsumer;
+import thaumicenergistics.integration.tc.IDigiVisSource;
+import thaumicenergistics.tileentities.TileArcaneAssembler;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+
+/**
+ * Tracks the Digi-Vis sources attached to a grid, so that linked devices can
+ * find their source by UID without looking it up in the world.
+ * <BR>
+ * Also pools vis requests, so that every consumer refilling from the same
+ * source is served by a single drain per primal each interval.
+ * 
+ * @author Nividica
+ * 
+ */
+public class DigiVisSourceCache
+	implements IDigiVisSourceCache
+{
+	/**
+	 * Number of ticks between pooled drains.
+	 */
+	private static final int POOL_INTERVAL = 5;
+
+	/**
+	 * Sources attached to the grid.
+	 */
+	private final Set<IDigiVisSource> sources = Collections.newSetFromMap( new IdentityHashMap<IDigiVisSource, Boolean>() );
+
+	/**
+	 * UID -> Source
+	 */
+	private final HashMap<Long, IDigiVisSource> sourcesByUID = new HashMap<Long, IDigiVisSource>();
+
+	/**
+	 * True when sources have been added or removed since the UID map was
+	 * built.
+	 */
+	private boolean isIndexStale = false;
+
+	/**
+	 * Consumers waiting on each source.
+	 */
+	private final LinkedHashMap<IDigiVisSource, LinkedHashSet<IDigiVisConsumer>> pendingRequests = new LinkedHashMap<IDigiVisSource, LinkedHashSet<IDigiVisConsumer>>();
+
+	/**
+	 * Ticks since the last pooled drain.
+	 */
+	private int poolTickCounter = 0;
+
+	/**
+	 * Created by AE for each grid.
+	 * 
+	 * @param grid
+	 */
+	public DigiVisSourceCache( final IGrid grid )
+	{
+	}
+
+	/**
+	 * Drains each source once per primal for all consumers waiting on it, and
+	 * splits the vis between them.
+	 */
+	private void drainPendingRequests()
+	{
+		for( Entry<IDigiVisSource, LinkedHashSet<IDigiVisConsumer>> request : this.pendingRequests.entrySet() )
+		{
+			IDigiVisSource source = request.getKey();
+			LinkedHashSet<IDigiVisConsumer> consumers = request.getValue();
+
+			for( Aspect primal : TileArcaneAssembler.PRIMALS )
+			{
+				// Total how much is needed
+				int totalNeeded = 0;
+				for( IDigiVisConsumer consumer : consumers )
+				{
+					totalNeeded += consumer.getVisRequired( primal );
+				}
+
+				// Is any needed?
+				if( totalNeeded <= 0 )
+				{
+					continue;
+				}
+
+				// Drain it all at once
+				int remaining = source.consumeVis( primal, totalNeeded );
+
+				// Split it between the consumers
+				for( Iterator<IDigiVisConsumer> iterator = consumers.iterator(); iterator.hasNext() && ( remaining > 0 ); )
+				{
+					IDigiVisConsumer consumer = iterator.next();
+					int amount = Math.min( remaining, consumer.getVisRequired( primal ) );
+					if( amount > 0 )
+					{
+						consumer.receiveVis( primal, amount );
+						remaining -= amount;
+					}
+				}
+			}
+		}
+
+		this.pendingRequests.clear();
+	}
+
+	/**
+	 * Rebuilds the UID map.
+	 */
+	private void rebuildIndex()
+	{
+		this.sourcesByUID.clear();
+		for( IDigiVisSource source : this.sources )
+		{
+			this.sourcesByUID.put( source.getUID(), source );
+		}
+		this.isIndexStale = false;
+	}
+
+	@Override
+	public void addNode( final IGridNode gridNode, final IGridHost machine )
+	{
+		if( machine instanceof IDigiVisSource )
+		{
+			this.sources.add( (IDigiVisSource)machine );
+			this.isIndexStale = true;
+		}
+	}
+
+	@Override
+	public IDigiVisSource getSource( final long UID )
+	{
+		// Does the map need to be rebuilt?
+		if( this.isIndexStale )
+		{
+			this.rebuildIndex();
+		}
+
+		IDigiVisSource source = this.sourcesByUID.get( UID );
+
+		// Has the source's UID changed since it was mapped?
+		if( ( source != null ) && ( source.getUID() != UID ) )
+		{
+			this.rebuildIndex();
+			source = this.sourcesByUID.get( UID );
+		}
+
+		return source;
+	}
+
+	@Override
+	public void onJoin( final IGridStorage sourceStorage )
+	{
+		// Ignored
+	}
+
+	@Override
+	public void onSplit( final IGridStorage destinationStorage )
+	{
+		// Ignored
+	}
+
+	@Override
+	public void onUpdateTick()
+	{
+		// Is it time to drain?
+		if( ++this.poolTickCounter < DigiVisSourceCache.POOL_INTERVAL )
+		{
+			return;
+		}
+		this.poolTickCounter = 0;
+
+		// Are there any requests?
+		if( !this.pendingRequests.isEmpty() )
+		{
+			this.drainPendingRequests();
+		}
+	}
+
+	@Override
+	public void populateGridStorage( final IGridStorage destinationStorage )
+	{
+		// Ignored
+	}
+
+	@Override
+	public void removeNode( final IGridNode gridNode, final IGridHost machine )
+	{
+		if( ( machine instanceof IDigiVisSource ) && this.sources.remove( machine ) )
+		{
+			this.isIndexStale = true;
+
+			// Drop any requests waiting on it
+			this.pendingRequests.remove( machine );
+		}
+
+		if( machine instanceof IDigiVisConsumer )
+		{
+			// Drop any requests from it
+			for( LinkedHashSet<IDigiVisConsumer> consumers : this.pendingRequests.values() )
+			{
+				consumers.remove( machine );
+			}
+		}
+	}
+
+	@Override
+	public void requestVis( final IDigiVisSource source, final IDigiVisConsumer consumer )
+	{
+		LinkedHashSet<IDigiVisConsumer> consumers = this.pendingRequests.get( source );
+		if( consumers == null )
+		{
+			consumers = new LinkedHashSet<IDigiVisConsumer>();
+			this.pendingRequests.put( source, consumers );
+		}
+		consumers.add( consumer );
+	}
+}
@@ -0,0 +1,33 @@
+package thaumicenergistics.grid;
+
+import thaumicenergistics.integration.tc.IDigiVisConsumer;
+import thaumicenergistics.integration.tc.IDigiVisSource;
+import appeng.api.networking.IGridCache;
+
+/**
+ * Grid cache that tracks the Digi-Vis sources attached to a grid, and pools
+ * the vis requests of the consumers on the grid.
+ * 
+ * @author Nividica
+ * 
+ */
+public interface IDigiVisSourceCache
+	extends IGridCache
+{
+	/**
+	 * Gets the source on this grid with the specified UID.
+	 * 
+	 * @param UID
+	 * @return Source, or null if the grid has no source with that UID.
+	 */
+	public IDigiVisSource getSource( long UID );
+
+	/**
+	 * Queues a request for the consumer to be refilled from the source.
+	 * Requests are combined per source, and drained once per interval.
+	 * 
+	 * @param source
+	 * @param consumer
+	 */
+	public void requestVis( IDigiVisSource source, IDigiVisConsumer consumer );
+}
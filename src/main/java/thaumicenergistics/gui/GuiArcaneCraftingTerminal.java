@@ -39,7 +39,6 @@ import appeng.api.config.SortOrder;
 import appeng.api.config.TerminalStyle;
 import appeng.api.config.ViewItems;
 import appeng.api.storage.data.IAEItemStack;
-import appeng.api.storage.data.IItemList;
 import appeng.client.gui.widgets.ISortSource;
 import appeng.client.me.ItemRepo;
 import appeng.client.render.AppEngRenderItem;
@@ -59,6 +58,12 @@ public class GuiArcaneCraftingTerminal
 	extends AbstractGuiConstantsACT
 	implements ISortSource
 {
+	/**
+	 * Minimum number of milliseconds between view rebuilds while the full list
+	 * is arriving.
+	 */
+	private static final long FULL_LIST_VIEW_UPDATE_INTERVAL = 250;
+
 	/**
 	 * Renders an AE itemstack into the gui.
 	 */
@@ -94,6 +99,11 @@ public class GuiArcaneCraftingTerminal
 	 */
 	private final ItemRepo repo;
 
+	/**
+	 * When the view was last rebuilt from a full list chunk.
+	 */
+	private long lastFullListViewUpdate = 0;
+
 	/**
 	 * How the items are sorted.
 	 */
@@ -1105,14 +1115,17 @@ public class GuiArcaneCraftingTerminal
 	}
 
 	/**
-	 * Called to update the amount of an item in the ME network.
+	 * Called to update the amounts of items in the ME network.
 	 * 
-	 * @param change
+	 * @param changes
 	 */
-	public void onReceiveChange( final IAEItemStack change )
+	public void onReceiveChange( final List<IAEItemStack> changes )
 	{
 		// Update the repository
-		this.repo.postUpdate( change );
+		for( IAEItemStack change : changes )
+		{
+			this.repo.postUpdate( change );
+		}
 		this.repo.updateView();
 
 		// Update the scroll bar
@@ -1123,18 +1136,28 @@ public class GuiArcaneCraftingTerminal
 	}
 
 	/**
-	 * Called when the server sends a full list of all
+	 * Called when the server sends part of the full list of all
 	 * items in the AE network in response to our request.
 	 * 
 	 * @param itemList
+	 * @param isLastChunk
 	 */
-	public void onReceiveFullList( final IItemList<IAEItemStack> itemList )
+	public void onReceiveFullList( final List<IAEItemStack> itemList, final boolean isLastChunk )
 	{
 		// Update the repository
 		for( IAEItemStack stack : itemList )
 		{
 			this.repo.postUpdate( stack );
 		}
+
+		// Limit how often the view is rebuilt while the list is arriving
+		long now = System.currentTimeMillis();
+		if( !isLastChunk && ( ( now - this.lastFullListViewUpdate ) < GuiArcaneCraftingTerminal.FULL_LIST_VIEW_UPDATE_INTERVAL ) )
+		{
+			return;
+		}
+		this.lastFullListViewUpdate = now;
+
 		this.repo.updateView();
 
 		// Update the scroll bar
@@ -2,7 +2,12 @@ package thaumicenergistics.gui;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.PositionedSoundRecord;
 import net.minecraft.client.gui.GuiButton;
@@ -203,9 +208,9 @@ public class GuiEssentiaCellTerminal
 	protected GuiTextField searchBar;
 
 	/**
-	 * All aspects currently in the network
+	 * All aspects currently in the network, by aspect
 	 */
-	protected List<WidgetAspectSelector> aspectWidgets = new ArrayList<WidgetAspectSelector>();
+	protected Map<Aspect, WidgetAspectSelector> aspectWidgets = new HashMap<Aspect, WidgetAspectSelector>();
 
 	/**
 	 * Aspects matching the current search term
@@ -227,6 +232,17 @@ public class GuiEssentiaCellTerminal
 	 */
 	protected ComparatorMode sortMode = ComparatorMode.MODE_ALPHABETIC;
 
+	/**
+	 * Sorts the widgets using the current sort mode.
+	 */
+	private WidgetAspectSelectorComparator widgetComparator = new WidgetAspectSelectorComparator( this.sortMode );
+
+	/**
+	 * Aspects in the container list, used to find widgets that are no longer
+	 * needed.
+	 */
+	private final Set<Aspect> listedAspects = new HashSet<Aspect>();
+
 	/**
 	 * The cached amount of the selected stack.
 	 */
@@ -331,7 +347,7 @@ public class GuiEssentiaCellTerminal
 	private void sortMatchingList()
 	{
 		// Sort the results
-		Collections.sort( this.matchingSearchWidgets, new WidgetAspectSelectorComparator( this.sortMode ) );
+		Collections.sort( this.matchingSearchWidgets, this.widgetComparator );
 	}
 
 	/**
@@ -363,10 +379,10 @@ public class GuiEssentiaCellTerminal
 		this.matchingSearchWidgets.clear();
 
 		// Examine each of the possible widgets
-		for( WidgetAspectSelector currentWidget : this.aspectWidgets )
+		for( WidgetAspectSelector currentWidget : this.aspectWidgets.values() )
 		{
 			// Is the search term in this aspects tag?
-			if( ( this.searchTerm == "" ) || ( currentWidget.getAspect().getTag().contains( this.searchTerm ) ) )
+			if( this.searchTerm.isEmpty() || ( currentWidget.getAspect().getTag().contains( this.searchTerm ) ) )
 			{
 				this.matchingSearchWidgets.add( currentWidget );
 			}
@@ -380,6 +396,47 @@ public class GuiEssentiaCellTerminal
 
 	}
 
+	/**
+	 * Updates the matching widgets when the search term changes.
+	 * 
+	 * @param newSearchTerm
+	 */
+	private void updateSearchTerm( final String newSearchTerm )
+	{
+		// Has the term changed?
+		if( newSearchTerm.equals( this.searchTerm ) )
+		{
+			return;
+		}
+
+		// Does the new term only narrow the results?
+		boolean isNarrowing = newSearchTerm.contains( this.searchTerm );
+
+		// Set the search term
+		this.searchTerm = newSearchTerm;
+
+		if( isNarrowing )
+		{
+			// Remove the widgets that no longer match, the rest stay in order
+			Iterator<WidgetAspectSelector> iterator = this.matchingSearchWidgets.iterator();
+			while( iterator.hasNext() )
+			{
+				if( !iterator.next().getAspect().getTag().contains( this.searchTerm ) )
+				{
+					iterator.remove();
+				}
+			}
+
+			// Update scrollbar
+			this.updateScrollMaximum();
+		}
+		else
+		{
+			// Re-search the widgets
+			this.updateSearch();
+		}
+	}
+
 	/**
 	 * Draws the GUI background image.
 	 */
@@ -473,11 +530,8 @@ public class GuiEssentiaCellTerminal
 		}
 		else if( this.searchBar.isFocused() )
 		{
-			// Get the search term
-			this.searchTerm = this.searchBar.getText().trim().toLowerCase();
-
-			// Re-search the widgets
-			this.updateSearch();
+			// Update the search term
+			this.updateSearchTerm( this.searchBar.getText().trim().toLowerCase() );
 		}
 		// Disable numeric key hotbar swaping.
 		else if( !Character.isDigit( key ) )
@@ -542,11 +596,10 @@ public class GuiEssentiaCellTerminal
 							GuiEssentiaCellTerminal.SEARCH_HEIGHT, GuiEssentiaCellTerminal.SEARCH_WIDTH, mouseX, mouseY, this.guiLeft, this.guiTop ) )
 		{
 			// Clear the search text
-			this.searchTerm = "";
-			this.searchBar.setText( this.searchTerm );
+			this.searchBar.setText( "" );
 
 			// Update the widgets
-			this.updateSearch();
+			this.updateSearchTerm( "" );
 
 			// Do not pass to super
 			return;
@@ -751,14 +804,14 @@ public class GuiEssentiaCellTerminal
 	}
 
 	/**
-	 * Called when an aspect in the list changes amount.
+	 * Called when aspects in the list change amount.
 	 * 
-	 * @param change
+	 * @param changes
 	 */
-	public void onReceiveAspectListChange( final AspectStack change )
+	public void onReceiveAspectListChange( final List<AspectStack> changes )
 	{
 		// Update the container
-		if( this.baseContainer.onReceivedAspectListChange( change ) )
+		if( this.baseContainer.onReceivedAspectListChanges( changes ) )
 		{
 			// Update the gui
 			this.updateAspects();
@@ -788,6 +841,7 @@ public class GuiEssentiaCellTerminal
 	{
 		// Set the sort mode
 		this.sortMode = sortMode;
+		this.widgetComparator = new WidgetAspectSelectorComparator( sortMode );
 
 		// Update the sort button
 		( (GuiButtonSortingMode)this.buttonList.get( GuiEssentiaCellTerminal.SORT_MODE_BUTTON_ID ) ).setSortMode( sortMode );
@@ -798,24 +852,62 @@ public class GuiEssentiaCellTerminal
 
 	/**
 	 * Refreshes our aspect list to match that of the container.
+	 * Existing widgets are kept, only their amounts are updated.
 	 */
 	public void updateAspects()
 	{
-		// Create a new list
-		this.aspectWidgets = new ArrayList<WidgetAspectSelector>();
+		List<AspectStack> aspectStackList = this.baseContainer.getAspectStackList();
+		boolean widgetsChanged = false, orderChanged = false;
 
-		// Make a widget for every aspect
-		for( AspectStack aspectStack : this.baseContainer.getAspectStackList() )
+		// Update the widget of every aspect
+		for( AspectStack aspectStack : aspectStackList )
 		{
-			// Create the widget
-			this.aspectWidgets.add( new WidgetAspectSelector( this, aspectStack, 0, 0, this.player ) );
+			WidgetAspectSelector widget = this.aspectWidgets.get( aspectStack.aspect );
+
+			// Is this a new aspect?
+			if( widget == null )
+			{
+				// Create the widget
+				this.aspectWidgets.put( aspectStack.aspect, new WidgetAspectSelector( this, aspectStack, 0, 0, this.player ) );
+				widgetsChanged = true;
+			}
+			// Has the amount changed?
+			else if( widget.getAmount() != aspectStack.amount )
+			{
+				// Update the amount
+				widget.setAmount( aspectStack.amount );
+
+				// Does the amount change the order?
+				orderChanged |= ( this.sortMode == ComparatorMode.MODE_AMOUNT );
+			}
 		}
 
-		// Update the scrollbar
-		this.updateScrollMaximum();
+		// Are there widgets for aspects that are no longer listed?
+		if( this.aspectWidgets.size() > aspectStackList.size() )
+		{
+			// Get the listed aspects
+			this.listedAspects.clear();
+			for( AspectStack aspectStack : aspectStackList )
+			{
+				this.listedAspects.add( aspectStack.aspect );
+			}
 
-		// Update the search results
-		this.updateSearch();
+			// Remove the unlisted widgets
+			this.aspectWidgets.keySet().retainAll( this.listedAspects );
+			this.listedAspects.clear();
+			widgetsChanged = true;
+		}
+
+		if( widgetsChanged )
+		{
+			// Update the search results
+			this.updateSearch();
+		}
+		else if( orderChanged )
+		{
+			// Resort the results
+			this.sortMatchingList();
+		}
 
 		// Update the selected aspect
 		this.updateSelectedAspect();
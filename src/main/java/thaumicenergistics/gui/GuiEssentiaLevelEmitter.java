@@ -18,7 +18,9 @@ import thaumicenergistics.network.IAspectSlotGui;
 import thaumicenergistics.network.packet.server.PacketServerEssentiaEmitter;
 import thaumicenergistics.parts.AEPartEssentiaLevelEmitter;
 import thaumicenergistics.registries.AEPartsEnum;
+import thaumicenergistics.registries.ThEStrings;
 import thaumicenergistics.texture.GuiTextureManager;
+import thaumicenergistics.util.GuiHelper;
 import appeng.api.config.RedstoneMode;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -89,6 +91,26 @@ public class GuiEssentiaLevelEmitter
 	 */
 	private static final int AMOUNT_HEIGHT = 10;
 
+	/**
+	 * Position and size of the amount field background in the gui texture.
+	 */
+	private static final int AMOUNT_BAR_POS_X = 23, AMOUNT_BAR_POS_Y = 42, AMOUNT_BAR_WIDTH = 91, AMOUNT_BAR_HEIGHT = 12;
+
+	/**
+	 * Y position of the hysteresis field background.
+	 */
+	private static final int HYSTERESIS_BAR_POS_Y = 84;
+
+	/**
+	 * Y offset for the hysteresis field.
+	 */
+	private static final int HYSTERESIS_OFFSET_Y = 86;
+
+	/**
+	 * X position of the hysteresis label.
+	 */
+	private static final int HYSTERESIS_LABEL_POS_X = 118;
+
 	/**
 	 * Horizontal padding between buttons.
 	 */
@@ -164,6 +186,11 @@ public class GuiEssentiaLevelEmitter
 	 */
 	private DigitTextField amountField;
 
+	/**
+	 * Hysteresis text field
+	 */
+	private DigitTextField hysteresisField;
+
 	/**
 	 * AE part associated with the gui.
 	 */
@@ -221,6 +248,11 @@ public class GuiEssentiaLevelEmitter
 
 		// Draw the gui texture.
 		this.drawTexturedModalRect( this.guiLeft, this.guiTop, 0, 0, GuiEssentiaLevelEmitter.GUI_WIDTH, GuiEssentiaLevelEmitter.GUI_HEIGHT );
+
+		// Draw the hysteresis field background, using the amount field background
+		this.drawTexturedModalRect( this.guiLeft + GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_X, this.guiTop + GuiEssentiaLevelEmitter.HYSTERESIS_BAR_POS_Y,
+			GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_X, GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_Y, GuiEssentiaLevelEmitter.AMOUNT_BAR_WIDTH,
+			GuiEssentiaLevelEmitter.AMOUNT_BAR_HEIGHT );
 	}
 
 	/**
@@ -232,25 +264,34 @@ public class GuiEssentiaLevelEmitter
 		// Pass to super
 		super.keyTyped( key, keyID );
 
+		// Get the field being typed in
+		DigitTextField field = ( this.hysteresisField.isFocused() ? this.hysteresisField : this.amountField );
+
 		// Ensure they was numeric and the string isnt too long to parse, or backspace
-		if( ( Character.isDigit( key ) && ( this.amountField.getText().length() < GuiEssentiaLevelEmitter.AMOUNT_MAX_CHARS ) ) ||
-						( keyID == Keyboard.KEY_BACK ) )
+		if( ( Character.isDigit( key ) && ( field.getText().length() < GuiEssentiaLevelEmitter.AMOUNT_MAX_CHARS ) ) || ( keyID == Keyboard.KEY_BACK ) )
 		{
-			// Pass to the amount field
-			this.amountField.textboxKeyTyped( key, keyID );
+			// Pass to the field
+			field.textboxKeyTyped( key, keyID );
 
 			// Convert the text field into a long
-			long wantedAmount = 0;
+			long amount = 0;
 			try
 			{
-				wantedAmount = Long.parseLong( this.amountField.getText() );
+				amount = Long.parseLong( field.getText() );
 			}
 			catch( NumberFormatException _ )
 			{
 			}
 
 			// Update the server
-			new PacketServerEssentiaEmitter().createWantedAmountUpdate( wantedAmount, this.part, this.player ).sendPacketToServer();
+			if( field == this.hysteresisField )
+			{
+				new PacketServerEssentiaEmitter().createHysteresisUpdate( amount, this.part, this.player ).sendPacketToServer();
+			}
+			else
+			{
+				new PacketServerEssentiaEmitter().createWantedAmountUpdate( amount, this.part, this.player ).sendPacketToServer();
+			}
 		}
 	}
 
@@ -263,6 +304,21 @@ public class GuiEssentiaLevelEmitter
 		// Pass to super
 		super.mouseClicked( mouseX, mouseY, mouseBtn );
 
+		// Was the amount field clicked?
+		if( GuiHelper.INSTANCE.isPointInGuiRegion( GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_Y, GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_X,
+			GuiEssentiaLevelEmitter.AMOUNT_BAR_HEIGHT, GuiEssentiaLevelEmitter.AMOUNT_BAR_WIDTH, mouseX, mouseY, this.guiLeft, this.guiTop ) )
+		{
+			this.amountField.setFocused( true );
+			this.hysteresisField.setFocused( false );
+		}
+		// Was the hysteresis field clicked?
+		else if( GuiHelper.INSTANCE.isPointInGuiRegion( GuiEssentiaLevelEmitter.HYSTERESIS_BAR_POS_Y, GuiEssentiaLevelEmitter.AMOUNT_BAR_POS_X,
+			GuiEssentiaLevelEmitter.AMOUNT_BAR_HEIGHT, GuiEssentiaLevelEmitter.AMOUNT_BAR_WIDTH, mouseX, mouseY, this.guiLeft, this.guiTop ) )
+		{
+			this.hysteresisField.setFocused( true );
+			this.amountField.setFocused( false );
+		}
+
 		// Is the mouse over the widget?
 		if( this.aspectFilterSlot.isMouseOverWidget( mouseX, mouseY ) )
 		{
@@ -326,8 +382,13 @@ public class GuiEssentiaLevelEmitter
 		// Draw the filter widget
 		this.aspectFilterSlot.drawWidget();
 
-		// Draw the text field
+		// Draw the text fields
 		this.amountField.drawTextBox();
+		this.hysteresisField.drawTextBox();
+
+		// Draw the hysteresis label
+		this.fontRendererObj.drawString( ThEStrings.Gui_EmitterHysteresis.getLocalized(), GuiEssentiaLevelEmitter.HYSTERESIS_LABEL_POS_X,
+			GuiEssentiaLevelEmitter.HYSTERESIS_OFFSET_Y, 0 );
 
 		if( this.tooltip.size() == 0 )
 		{
@@ -399,6 +460,12 @@ public class GuiEssentiaLevelEmitter
 		// Text color white
 		this.amountField.setTextColor( 0xFFFFFFFF );
 
+		// Create the hysteresis field
+		this.hysteresisField = new DigitTextField( this.fontRendererObj, GuiEssentiaLevelEmitter.AMOUNT_OFFSET_X,
+						GuiEssentiaLevelEmitter.HYSTERESIS_OFFSET_Y, GuiEssentiaLevelEmitter.AMOUNT_WIDTH, GuiEssentiaLevelEmitter.AMOUNT_HEIGHT );
+		this.hysteresisField.setEnableBackgroundDrawing( false );
+		this.hysteresisField.setTextColor( 0xFFFFFFFF );
+
 		// Reset the button list
 		this.buttonList.clear();
 
@@ -440,6 +507,16 @@ public class GuiEssentiaLevelEmitter
 		Keyboard.enableRepeatEvents( false );
 	}
 
+	/**
+	 * Sets the hysteresis
+	 * 
+	 * @param hysteresis
+	 */
+	public void onServerUpdateHysteresis( final long hysteresis )
+	{
+		this.hysteresisField.setText( Long.toString( hysteresis ) );
+	}
+
 	/**
 	 * Sets the redstone mode
 	 * 
@@ -1,8 +1,13 @@
 package thaumicenergistics.integration.tc;
 
+import java.util.List;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.world.World;
 import thaumcraft.api.ThaumcraftApi;
 import thaumcraft.api.aspects.AspectList;
 import thaumcraft.api.crafting.IArcaneRecipe;
@@ -15,6 +20,54 @@ public class ArcaneRecipeHelper
 	 */
 	public static final ArcaneRecipeHelper INSTANCE = new ArcaneRecipeHelper();
 
+	/**
+	 * Index of the Thaumcraft arcane recipes.
+	 */
+	private final RecipeIndex arcaneRecipes = new RecipeIndex()
+	{
+		@Override
+		protected List<?> getRecipes()
+		{
+			return ThaumcraftApi.getCraftingRecipes();
+		}
+
+		@Override
+		protected boolean isCandidate( final Object recipe )
+		{
+			return( recipe instanceof IArcaneRecipe );
+		}
+
+		@Override
+		protected boolean matches( final Object recipe, final IInventory grid, final World world, final EntityPlayer player )
+		{
+			return ( (IArcaneRecipe)recipe ).matches( grid, world, player );
+		}
+	};
+
+	/**
+	 * Index of the regular crafting recipes.
+	 */
+	private final RecipeIndex regularRecipes = new RecipeIndex()
+	{
+		@Override
+		protected List<?> getRecipes()
+		{
+			return CraftingManager.getInstance().getRecipeList();
+		}
+
+		@Override
+		protected boolean isCandidate( final Object recipe )
+		{
+			return( recipe instanceof IRecipe );
+		}
+
+		@Override
+		protected boolean matches( final Object recipe, final IInventory grid, final World world, final EntityPlayer player )
+		{
+			return ( (IRecipe)recipe ).matches( (InventoryCrafting)grid, world );
+		}
+	};
+
 	/**
 	 * Private constructor.
 	 */
@@ -62,26 +115,61 @@ public class ArcaneRecipeHelper
 		// Create a the workbench
 		TileMagicWorkbench workbenchTile = this.createBridgeInventory( sourceInventory, firstSlotIndex, gridSize );
 
-		IArcaneRecipe arcaneRecipe = null;
+		// Search the candidate recipes
+		IArcaneRecipe arcaneRecipe = (IArcaneRecipe)this.arcaneRecipes.findMatchingRecipe( workbenchTile, gridSize, player.worldObj, player );
+
+		// Return the result
+		return arcaneRecipe;
+	}
+
+	/**
+	 * Searches for a matching regular(non arcane) crafting recipe.
+	 * 
+	 * @param craftingInventory
+	 * @param world
+	 * @return ItemStack of the result if found, null otherwise.
+	 */
+	public ItemStack findMatchingRegularResult( final InventoryCrafting craftingInventory, final World world )
+	{
+		ItemStack firstStack = null, secondStack = null;
+		int stackCount = 0;
 
-		// Loop through all arcane crafting recipes
-		for( Object currentRecipe : ThaumcraftApi.getCraftingRecipes() )
+		// Count the items in the grid
+		for( int slotIndex = 0; slotIndex < craftingInventory.getSizeInventory(); ++slotIndex )
 		{
-			// Is the current recipe an arcane one?
-			if( currentRecipe instanceof IArcaneRecipe )
+			ItemStack slotStack = craftingInventory.getStackInSlot( slotIndex );
+			if( slotStack != null )
 			{
-				// Does the recipe have a match?
-				if( ( (IArcaneRecipe)currentRecipe ).matches( workbenchTile, player.worldObj, player ) )
+				if( stackCount == 0 )
+				{
+					firstStack = slotStack;
+				}
+				else if( stackCount == 1 )
 				{
-					// Found a match, stop searching
-					arcaneRecipe = (IArcaneRecipe)currentRecipe;
-					break;
+					secondStack = slotStack;
 				}
+				++stackCount;
 			}
 		}
 
-		// Return the result
-		return arcaneRecipe;
+		// Could this be a repair?
+		if( ( stackCount == 2 ) && ( firstStack.getItem() == secondStack.getItem() ) && ( firstStack.stackSize == 1 ) &&
+						( secondStack.stackSize == 1 ) && firstStack.getItem().isRepairable() )
+		{
+			// Let the crafting manager handle repairs
+			return CraftingManager.getInstance().findMatchingRecipe( craftingInventory, world );
+		}
+
+		// Search the candidate recipes
+		IRecipe recipe = (IRecipe)this.regularRecipes.findMatchingRecipe( craftingInventory, craftingInventory.getSizeInventory(), world, null );
+
+		// Was a match found?
+		if( recipe == null )
+		{
+			return null;
+		}
+
+		return recipe.getCraftingResult( craftingInventory );
 	}
 
 	/**
@@ -1,15 +1,10 @@
 package thaumicenergistics.integration.tc;
 
-import java.lang.ref.WeakReference;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.world.World;
-import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.util.ForgeDirection;
+import thaumicenergistics.grid.IDigiVisSourceCache;
 import thaumicenergistics.registries.ThEStrings;
 import appeng.api.networking.IGrid;
-import appeng.api.parts.IPart;
-import appeng.api.parts.IPartHost;
 import appeng.api.util.DimensionalCoord;
 
 public class DigiVisSourceData
@@ -55,11 +50,6 @@ public class DigiVisSourceData
 	 */
 	private long UID;
 
-	/**
-	 * Cached reference to source.
-	 */
-	private WeakReference<IDigiVisSource> digiVisSource;
-
 	/**
 	 * Creates the info, setting that there is no data
 	 */
@@ -113,107 +103,6 @@ public class DigiVisSourceData
 		this.hasData = true;
 	}
 
-	/**
-	 * Gets the vis source.
-	 * 
-	 * @return
-	 */
-	private IDigiVisSource getSource( final boolean forceUpdate )
-	{
-		// Do we have any data to load from?
-		if( this.hasData )
-		{
-			// Do we have an source cached?
-			IDigiVisSource vInt = this.digiVisSource.get();
-			if( forceUpdate || ( vInt == null ) )
-			{
-				// Attempt to get the source
-				this.refreshCache();
-
-				// Return it if cached
-				return this.digiVisSource.get();
-			}
-
-			// Return the cached
-			return vInt;
-
-		}
-
-		// Nothing to load
-		return null;
-	}
-
-	private void refreshCache()
-	{
-		// Clear the reference
-		this.digiVisSource.clear();
-		IDigiVisSource visSource = null;
-
-		try
-		{
-			// Get the world
-			World world = DimensionManager.getWorld( this.worldID );
-
-			// Ensure the world is not null
-			if( world == null )
-			{
-				return;
-			}
-
-			// Get the tile
-			TileEntity tile = world.getTileEntity( this.x, this.y, this.z );
-
-			// Ensure we got a tile
-			if( tile == null )
-			{
-				return;
-			}
-
-			// Is the source a block?
-			if( this.side.equals( ForgeDirection.UNKNOWN ) )
-			{
-				// Ensure the block is a source
-				if( !( tile instanceof IDigiVisSource ) )
-				{
-					return;
-				}
-
-				// Get the source
-				visSource = (IDigiVisSource)tile;
-			}
-			else
-			{
-				// Ensure the tile is a part host
-				if( !( tile instanceof IPartHost ) )
-				{
-					return;
-				}
-
-				// Get the part from the host
-				IPart part = ( (IPartHost)tile ).getPart( this.side );
-
-				// Ensure we got the part, and it is a vis source
-				if( !( part instanceof IDigiVisSource ) )
-				{
-					return;
-				}
-
-				// Cast to the source
-				visSource = (IDigiVisSource)part;
-			}
-
-			// Check the UID
-			if( visSource.getUID() == this.UID )
-			{
-				// Set the source
-				this.digiVisSource = new WeakReference<IDigiVisSource>( visSource );
-			}
-		}
-		catch( Exception e )
-		{
-		}
-	}
-
 	/**
 	 * Erases all data
 	 */
@@ -226,7 +115,6 @@ public class DigiVisSourceData
 		this.z = 0;
 		this.side = ForgeDirection.UNKNOWN;
 		this.UID = 0;
-		this.digiVisSource = new WeakReference<IDigiVisSource>( null );
 	}
 
 	/**
@@ -302,8 +190,10 @@ public class DigiVisSourceData
 	}
 
 	/**
-	 * Verifies that the source exists, is active and that the
-	 * source and destination grid's are the same.
+	 * Verifies that the source exists, and that the source and destination
+	 * grid's are the same.
+	 * The source is looked up in the destination grid's source cache, the
+	 * world is never accessed.
 	 * 
 	 * @param destinationGrid
 	 * 
@@ -311,48 +201,25 @@ public class DigiVisSourceData
 	 */
 	public IDigiVisSource tryGetSource( final IGrid destinationGrid )
 	{
-		try
+		// Ensure there is data and a destination grid
+		if( !this.hasData || ( destinationGrid == null ) )
 		{
-			// Ensure the destination grid is not null
-			if( destinationGrid == null )
-			{
-				// Null destination grid
-				return null;
-			}
+			return null;
+		}
 
-			// Get the source
-			IDigiVisSource source = this.getSource( false );
+		try
+		{
+			// Get the source cache of the grid
+			IDigiVisSourceCache sourceCache = (IDigiVisSourceCache)destinationGrid.getCache( IDigiVisSourceCache.class );
 
-			// Ensure the source is not null
-			if( source == null )
+			// Ensure the cache is not null
+			if( sourceCache == null )
 			{
-				// Null source
 				return null;
 			}
 
-			// Get the source grid
-			IGrid sourceGrid = source.getGrid();
-
-			// Do the grids NOT match?
-			if( !destinationGrid.equals( sourceGrid ) )
-			{
-				// Refresh the source
-				source = this.getSource( true );
-
-				// Get the source grid
-				sourceGrid = source.getGrid();
-
-				// Do the grids still not match?
-				if( !destinationGrid.equals( sourceGrid ) )
-				{
-					// Grids do not match
-					return null;
-				}
-
-			}
-
-			// Every thing checks out
-			return source;
+			// Look up the source
+			return sourceCache.getSource( this.UID );
 		}
 		catch( Exception e )
 		{
@@ -6,6 +6,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 import thaumcraft.api.aspects.Aspect;
 import thaumicenergistics.ThaumicEnergistics;
+import thaumicenergistics.aspect.AspectIndex;
 import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.fluids.GaseousEssentia;
 import appeng.api.AEApi;
@@ -19,6 +20,12 @@ public final class EssentiaConversionHelper
 	 */
 	public static final EssentiaConversionHelper INSTANCE = new EssentiaConversionHelper();
 
+	/**
+	 * Single unit stacks of each gas, by aspect ordinal.
+	 * Rebuilt when a gas without a template is seen, never modified.
+	 */
+	private volatile IAEFluidStack[] templates = null;
+
 	/**
 	 * Private constructor
 	 */
@@ -27,6 +34,44 @@ public final class EssentiaConversionHelper
 
 	}
 
+	/**
+	 * Creates a template stack for every gas.
+	 * 
+	 * @return
+	 */
+	private synchronized IAEFluidStack[] buildTemplates()
+	{
+		IAEFluidStack[] current = this.templates;
+		IAEFluidStack[] table = new IAEFluidStack[AspectIndex.size()];
+
+		// Keep any templates already built
+		if( current != null )
+		{
+			System.arraycopy( current, 0, table, 0, Math.min( current.length, table.length ) );
+		}
+
+		for( GaseousEssentia essentiaGas : GaseousEssentia.gasList.values() )
+		{
+			int index = essentiaGas.getAspectIndex();
+			if( ( index < 0 ) || ( index >= table.length ) || ( table[index] != null ) )
+			{
+				continue;
+			}
+
+			try
+			{
+				table[index] = AEApi.instance().storage().createFluidStack( new FluidStack( essentiaGas, 1 ) );
+			}
+			catch( Exception e )
+			{
+			}
+		}
+
+		this.templates = table;
+
+		return table;
+	}
+
 	/**
 	 * Converts an AE fluid stack into an AspectStack.
 	 * 
@@ -187,18 +232,53 @@ public final class EssentiaConversionHelper
 	 */
 	public IAEFluidStack createAEFluidStackInFluidUnits( final GaseousEssentia essentiaGas, final long fluidAmount )
 	{
-		IAEFluidStack ret = null;
-		try
+		// Get the template
+		IAEFluidStack template = this.getTemplate( essentiaGas );
+		if( template == null )
 		{
-			ret = AEApi.instance().storage().createFluidStack( new FluidStack( essentiaGas, 1 ) );
+			return null;
+		}
+
+		// Copy it
+		IAEFluidStack ret = template.copy();
+		ret.setStackSize( fluidAmount );
+
+		return ret;
+	}
 
-			ret.setStackSize( fluidAmount );
+	/**
+	 * Gets the shared single unit stack of the gas.
+	 * The returned stack must not be modified, it is only suitable for lookups
+	 * such as findPrecise, or for copying.
+	 * 
+	 * @param essentiaGas
+	 * @return Template, or null if a stack could not be created for the gas.
+	 */
+	public IAEFluidStack getTemplate( final GaseousEssentia essentiaGas )
+	{
+		if( essentiaGas == null )
+		{
+			return null;
 		}
-		catch( Exception e )
+
+		int index = essentiaGas.getAspectIndex();
+		if( index < 0 )
 		{
+			return null;
 		}
 
-		return ret;
+		// Does the table need to be built, or is the gas missing from it?
+		IAEFluidStack[] table = this.templates;
+		if( ( table == null ) || ( index >= table.length ) || ( table[index] == null ) )
+		{
+			table = this.buildTemplates();
+			if( index >= table.length )
+			{
+				return null;
+			}
+		}
+
+		return table[index];
 	}
 
 }
@@ -5,6 +5,8 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.IEssentiaTransport;
+import thaumicenergistics.api.ThEApi;
+import thaumicenergistics.util.ThELog;
 import appeng.api.config.Actionable;
 
 public class EssentiaTransportHelper
@@ -14,6 +16,12 @@ public class EssentiaTransportHelper
 	 */
 	public static final EssentiaTransportHelper INSTANCE = new EssentiaTransportHelper();
 
+	/**
+	 * Returned when essentia the destination refused could not be given back
+	 * to the source.
+	 */
+	public static final int REFUND_FAILED = -1;
+
 	/**
 	 * Private constructor.
 	 */
@@ -22,78 +30,171 @@ public class EssentiaTransportHelper
 		// Intentionally Empty
 	}
 
-	public void takeEssentiaFromTransportNeighbors( final IEssentiaTransportWithSimulate destination, final World world, final int x, final int y,
+	/**
+	 * Pulls essentia from each neighboring transport into the destination,
+	 * up to the configured batch size per side.
+	 * 
+	 * @param destination
+	 * @param world
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @return Total amount of essentia moved.
+	 */
+	public int takeEssentiaFromTransportNeighbors( final IEssentiaTransportWithSimulate destination, final World world, final int x, final int y,
 													final int z )
 	{
-		// Null checks
-		if( ( destination == null ) || ( world == null ) )
-		{
-			return;
-		}
+		return this.takeEssentiaFromTransportNeighbors( destination, world, x, y, z, ThEApi.instance().config().essentiaTransportBatchSize() );
+	}
+
+	/**
+	 * Pulls essentia from each neighboring transport into the destination.
+	 * Stops pulling if a side could not take back essentia the destination
+	 * refused.
+	 * 
+	 * @param destination
+	 * @param world
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @param maxPerSide
+	 * Most essentia to take from any one side.
+	 * @return Total amount of essentia moved.
+	 */
+	public int takeEssentiaFromTransportNeighbors( final IEssentiaTransportWithSimulate destination, final World world, final int x, final int y,
+													final int z, final int maxPerSide )
+	{
+		int totalMoved = 0;
 
 		// For each side
 		for( ForgeDirection destinationSide : ForgeDirection.VALID_DIRECTIONS )
 		{
-			// Can the destination accept essentia from this side?
-			if( !destination.canInputFrom( destinationSide ) )
+			// Pull from the side
+			int moved = this.takeEssentiaFromTransportNeighbor( destination, world, x, y, z, destinationSide, maxPerSide );
+
+			// Was refused essentia not taken back?
+			if( moved == EssentiaTransportHelper.REFUND_FAILED )
 			{
-				// Destination can not accept essentia from this side
-				continue;
+				break;
 			}
 
-			// Get the source
-			TileEntity sourceTile = world.getTileEntity( destinationSide.offsetX + x, destinationSide.offsetY + y, destinationSide.offsetZ + z );
+			totalMoved += moved;
+		}
 
-			// Ensure the source is a transport
-			if( !( sourceTile instanceof IEssentiaTransport ) )
-			{
-				// Invalid source
-				continue;
-			}
+		return totalMoved;
+	}
 
-			// Cast
-			IEssentiaTransport source = (IEssentiaTransport)sourceTile;
+	/**
+	 * Pulls essentia from the neighboring transport on the specified side into
+	 * the destination.
+	 * 
+	 * @param destination
+	 * @param world
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @param destinationSide
+	 * @param maxAmount
+	 * Most essentia to take from the side.
+	 * @return Amount of essentia moved, or {@link #REFUND_FAILED} if the
+	 * destination refused essentia that the source would not take back.
+	 */
+	public int takeEssentiaFromTransportNeighbor( final IEssentiaTransportWithSimulate destination, final World world, final int x, final int y,
+													final int z, final ForgeDirection destinationSide, final int maxAmount )
+	{
+		// Null checks
+		if( ( destination == null ) || ( world == null ) || ( maxAmount <= 0 ) )
+		{
+			return 0;
+		}
 
-			// Get the opposite direction
-			ForgeDirection sourceSide = destinationSide.getOpposite();
+		// Can the destination accept essentia from this side?
+		if( !destination.canInputFrom( destinationSide ) )
+		{
+			// Destination can not accept essentia from this side
+			return 0;
+		}
 
-			// Can the source output to this side?
-			if( !source.canOutputTo( sourceSide ) )
-			{
-				// Source can not output to this side
-				continue;
-			}
+		// Get the source
+		TileEntity sourceTile = world.getTileEntity( destinationSide.offsetX + x, destinationSide.offsetY + y, destinationSide.offsetZ + z );
 
-			// Does the source have any essentia to give?
-			if( source.getEssentiaAmount( sourceSide ) <= 0 )
-			{
-				// No essentia from this side
-				continue;
-			}
+		// Ensure the source is a transport
+		if( !( sourceTile instanceof IEssentiaTransport ) )
+		{
+			// Invalid source
+			return 0;
+		}
 
-			// Does the destination have enough suction?
-			int dSuck = destination.getSuctionAmount( destinationSide );
-			if( ( dSuck < source.getMinimumSuction() ) || ( dSuck < source.getSuctionAmount( sourceSide ) ) )
-			{
-				// Destination does not have enough suction.
-				continue;
-			}
+		// Cast
+		IEssentiaTransport source = (IEssentiaTransport)sourceTile;
 
-			// Get the source aspect
-			Aspect sourceAspect = source.getEssentiaType( sourceSide );
-			if( sourceAspect == null )
-			{
-				// Invalid aspect
-				continue;
-			}
+		// Get the opposite direction
+		ForgeDirection sourceSide = destinationSide.getOpposite();
 
-			// Simulate an injection
-			if( destination.addEssentia( sourceAspect, 1, destinationSide, Actionable.SIMULATE ) == 1 )
+		// Can the source output to this side?
+		if( !source.canOutputTo( sourceSide ) )
+		{
+			// Source can not output to this side
+			return 0;
+		}
+
+		// Does the source have any essentia to give?
+		int sourceAmount = source.getEssentiaAmount( sourceSide );
+		if( sourceAmount <= 0 )
+		{
+			// No essentia from this side
+			return 0;
+		}
+
+		// Does the destination have enough suction?
+		int dSuck = destination.getSuctionAmount( destinationSide );
+		if( ( dSuck < source.getMinimumSuction() ) || ( dSuck < source.getSuctionAmount( sourceSide ) ) )
+		{
+			// Destination does not have enough suction.
+			return 0;
+		}
+
+		// Get the source aspect
+		Aspect sourceAspect = source.getEssentiaType( sourceSide );
+		if( sourceAspect == null )
+		{
+			// Invalid aspect
+			return 0;
+		}
+
+		// Simulate an injection of as much as the source has
+		int amount = destination.addEssentia( sourceAspect, Math.min( maxAmount, sourceAmount ), destinationSide, Actionable.SIMULATE );
+		if( amount <= 0 )
+		{
+			// Destination is full
+			return 0;
+		}
+
+		// Take from the source
+		amount = source.takeEssentia( sourceAspect, amount, sourceSide );
+		if( amount <= 0 )
+		{
+			return 0;
+		}
+
+		// Inject
+		int added = destination.addEssentia( sourceAspect, amount, destinationSide, Actionable.MODULATE );
+
+		// Give back anything the destination did not accept
+		if( added < amount )
+		{
+			int refused = amount - added;
+			int returned = source.addEssentia( sourceAspect, refused, sourceSide );
+
+			// Did the source refuse to take it back?
+			if( returned < refused )
 			{
-				// Inject
-				destination.addEssentia( sourceAspect, source.takeEssentia( sourceAspect, 1, sourceSide ), destinationSide, Actionable.MODULATE );
+				ThELog.warning( "Unable to return %d %s essentia to a transport, it has been lost.", refused - returned, sourceAspect.getTag() );
+				return EssentiaTransportHelper.REFUND_FAILED;
 			}
 		}
+
+		return added;
 	}
 
 }
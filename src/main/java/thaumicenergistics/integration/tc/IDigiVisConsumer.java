@@ -0,0 +1,28 @@
+package thaumicenergistics.integration.tc;
+
+import thaumcraft.api.aspects.Aspect;
+
+/**
+ * A device that is refilled with vis through its grid's vis pool.
+ * 
+ * @author Nividica
+ * 
+ */
+public interface IDigiVisConsumer
+{
+	/**
+	 * Gets how much of the primal the consumer can take.
+	 * 
+	 * @param primal
+	 * @return
+	 */
+	public int getVisRequired( Aspect primal );
+
+	/**
+	 * Gives vis drained by the pool to the consumer.
+	 * 
+	 * @param primal
+	 * @param amount
+	 */
+	public void receiveVis( Aspect primal, int amount );
+}
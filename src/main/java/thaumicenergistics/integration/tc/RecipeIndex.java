@@ -0,0 +1,389 @@
+package thaumicenergistics.integration.tc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.ShapedRecipes;
+import net.minecraft.item.crafting.ShapelessRecipes;
+import net.minecraft.world.World;
+import net.minecraftforge.oredict.ShapedOreRecipe;
+import net.minecraftforge.oredict.ShapelessOreRecipe;
+import thaumcraft.api.crafting.ShapedArcaneRecipe;
+import thaumcraft.api.crafting.ShapelessArcaneRecipe;
+
+/**
+ * Buckets the recipes of a recipe list by the items they accept, so that
+ * finding the recipe for a crafting grid only has to test the recipes that
+ * could possibly use the items in the grid.
+ * <BR>
+ * Ore dictionary ingredients are expanded into the items they contain.
+ * Recipes whose ingredients can not be enumerated are placed in a fallback
+ * bucket that is always tested.
+ * <BR>
+ * The index is built the first time it is used, and rebuilt whenever the size
+ * of the recipe list changes.
+ * 
+ * @author Nividica
+ * 
+ */
+abstract class RecipeIndex
+{
+	/**
+	 * Immutable view of the index.
+	 */
+	private static final class Snapshot
+	{
+		/**
+		 * Size of the recipe list when this snapshot was built.
+		 */
+		final int recipeCount;
+
+		/**
+		 * Item -> recipes that accept that item, in recipe list order.
+		 */
+		final IdentityHashMap<Item, Object[]> buckets;
+
+		/**
+		 * Recipes that must always be tested, in recipe list order.
+		 */
+		final Object[] fallback;
+
+		/**
+		 * Recipe -> recipe list position, for every recipe in the index.
+		 */
+		final IdentityHashMap<Object, Integer> order;
+
+		Snapshot( final int recipeCount, final IdentityHashMap<Item, Object[]> buckets, final Object[] fallback,
+					final IdentityHashMap<Object, Integer> order )
+		{
+			this.recipeCount = recipeCount;
+			this.buckets = buckets;
+			this.fallback = fallback;
+			this.order = order;
+		}
+	}
+
+	/**
+	 * Used when a grid item has no bucket.
+	 */
+	private static final Object[] EMPTY_BUCKET = new Object[0];
+
+	/**
+	 * Current snapshot.
+	 * Replaced, never modified, so that the client and server threads can
+	 * both read it without locking.
+	 */
+	private volatile Snapshot snapshot = null;
+
+	/**
+	 * Adds the items an ingredient will accept to the set.
+	 * 
+	 * @param ingredient
+	 * @param items
+	 * @return False if the items could not be determined.
+	 */
+	private static boolean addIngredientItems( final Object ingredient, final Set<Item> items )
+	{
+		// Empty slot?
+		if( ingredient == null )
+		{
+			return true;
+		}
+
+		// Single item?
+		if( ingredient instanceof ItemStack )
+		{
+			Item item = ( (ItemStack)ingredient ).getItem();
+			if( item == null )
+			{
+				return false;
+			}
+			items.add( item );
+			return true;
+		}
+
+		// Ore dictionary or item group?
+		if( ingredient instanceof Collection )
+		{
+			Collection<?> group = (Collection<?>)ingredient;
+
+			// An empty group may be filled later on
+			if( group.isEmpty() )
+			{
+				return false;
+			}
+
+			for( Object member : group )
+			{
+				if( !( member instanceof ItemStack ) || ( ( (ItemStack)member ).getItem() == null ) )
+				{
+					return false;
+				}
+				items.add( ( (ItemStack)member ).getItem() );
+			}
+
+			return true;
+		}
+
+		// Unknown ingredient type
+		return false;
+	}
+
+	/**
+	 * Gets the ingredients of a recipe.
+	 * Only the exact known recipe classes are read, subclasses may override
+	 * matches() to accept items outside of their declared inputs.
+	 * 
+	 * @param recipe
+	 * @return Ingredients, or null if the recipe type is not known.
+	 */
+	private static Object[] getIngredients( final Object recipe )
+	{
+		Class<?> recipeClass = recipe.getClass();
+
+		if( recipeClass == ShapedArcaneRecipe.class )
+		{
+			return ( (ShapedArcaneRecipe)recipe ).getInput();
+		}
+
+		if( recipeClass == ShapelessArcaneRecipe.class )
+		{
+			return ( (ShapelessArcaneRecipe)recipe ).getInput().toArray();
+		}
+
+		if( recipeClass == ShapedRecipes.class )
+		{
+			return ( (ShapedRecipes)recipe ).recipeItems;
+		}
+
+		if( recipeClass == ShapelessRecipes.class )
+		{
+			return ( (ShapelessRecipes)recipe ).recipeItems.toArray();
+		}
+
+		if( recipeClass == ShapedOreRecipe.class )
+		{
+			return ( (ShapedOreRecipe)recipe ).getInput();
+		}
+
+		if( recipeClass == ShapelessOreRecipe.class )
+		{
+			return ( (ShapelessOreRecipe)recipe ).getInput().toArray();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Builds a new snapshot from the recipe list.
+	 * 
+	 * @param recipes
+	 * @return
+	 */
+	private Snapshot build( final List<?> recipes )
+	{
+		IdentityHashMap<Item, List<Object>> bucketLists = new IdentityHashMap<Item, List<Object>>();
+		List<Object> fallback = new ArrayList<Object>();
+		IdentityHashMap<Object, Integer> order = new IdentityHashMap<Object, Integer>();
+		Set<Item> recipeItems = new HashSet<Item>();
+
+		for( int index = 0; index < recipes.size(); ++index )
+		{
+			Object recipe = recipes.get( index );
+
+			// Skip recipes this index does not care about
+			if( !this.isCandidate( recipe ) )
+			{
+				continue;
+			}
+
+			order.put( recipe, index );
+
+			// Get the ingredients
+			Object[] ingredients = RecipeIndex.getIngredients( recipe );
+			boolean indexable = ( ingredients != null );
+
+			// Gather every item the recipe can accept
+			recipeItems.clear();
+			if( indexable )
+			{
+				for( Object ingredient : ingredients )
+				{
+					if( !RecipeIndex.addIngredientItems( ingredient, recipeItems ) )
+					{
+						indexable = false;
+						break;
+					}
+				}
+			}
+
+			// Can the recipe be indexed?
+			if( !indexable || recipeItems.isEmpty() )
+			{
+				fallback.add( recipe );
+				continue;
+			}
+
+			// Add to each item bucket
+			for( Item item : recipeItems )
+			{
+				List<Object> bucket = bucketLists.get( item );
+				if( bucket == null )
+				{
+					bucket = new ArrayList<Object>();
+					bucketLists.put( item, bucket );
+				}
+				bucket.add( recipe );
+			}
+		}
+
+		// Freeze the buckets
+		IdentityHashMap<Item, Object[]> buckets = new IdentityHashMap<Item, Object[]>( bucketLists.size() );
+		for( Entry<Item, List<Object>> entry : bucketLists.entrySet() )
+		{
+			buckets.put( entry.getKey(), entry.getValue().toArray() );
+		}
+
+		return new Snapshot( recipes.size(), buckets, fallback.toArray(), order );
+	}
+
+	/**
+	 * Gets a snapshot that matches the current recipe list.
+	 * 
+	 * @return
+	 */
+	private Snapshot getSnapshot()
+	{
+		List<?> recipes = this.getRecipes();
+		Snapshot current = this.snapshot;
+
+		// Is the snapshot still valid?
+		if( ( current != null ) && ( current.recipeCount == recipes.size() ) )
+		{
+			return current;
+		}
+
+		synchronized( this )
+		{
+			// Was it rebuilt while waiting?
+			current = this.snapshot;
+			if( ( current == null ) || ( current.recipeCount != recipes.size() ) )
+			{
+				current = this.build( recipes );
+				this.snapshot = current;
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Gets the recipe list to index.
+	 * 
+	 * @return
+	 */
+	protected abstract List<?> getRecipes();
+
+	/**
+	 * Returns true if the recipe should be included in the index.
+	 * 
+	 * @param recipe
+	 * @return
+	 */
+	protected abstract boolean isCandidate( Object recipe );
+
+	/**
+	 * Returns true if the recipe matches the grid.
+	 * 
+	 * @param recipe
+	 * @param grid
+	 * @param world
+	 * @param player
+	 * @return
+	 */
+	protected abstract boolean matches( Object recipe, IInventory grid, World world, EntityPlayer player );
+
+	/**
+	 * Finds the first recipe, in recipe list order, that matches the grid.
+	 * 
+	 * @param grid
+	 * @param gridSize
+	 * Number of crafting slots, starting at slot 0.
+	 * @param world
+	 * @param player
+	 * @return Matching recipe, or null if no match was found.
+	 */
+	public Object findMatchingRecipe( final IInventory grid, final int gridSize, final World world, final EntityPlayer player )
+	{
+		Snapshot index = this.getSnapshot();
+
+		// Find the smallest bucket of the items in the grid
+		Object[] bucket = null;
+		for( int slotIndex = 0; slotIndex < gridSize; ++slotIndex )
+		{
+			ItemStack stack = grid.getStackInSlot( slotIndex );
+			if( ( stack == null ) || ( stack.getItem() == null ) )
+			{
+				continue;
+			}
+
+			Object[] itemBucket = index.buckets.get( stack.getItem() );
+			if( itemBucket == null )
+			{
+				// Only fallback recipes can use this item
+				bucket = RecipeIndex.EMPTY_BUCKET;
+				break;
+			}
+
+			if( ( bucket == null ) || ( itemBucket.length < bucket.length ) )
+			{
+				bucket = itemBucket;
+			}
+		}
+
+		// Empty grid?
+		if( bucket == null )
+		{
+			bucket = RecipeIndex.EMPTY_BUCKET;
+		}
+
+		// Merge the bucket with the fallback recipes, keeping recipe list order
+		Object[] fallback = index.fallback;
+		int bucketPos = 0, fallbackPos = 0;
+		while( ( bucketPos < bucket.length ) || ( fallbackPos < fallback.length ) )
+		{
+			Object recipe;
+			if( fallbackPos == fallback.length )
+			{
+				recipe = bucket[bucketPos++ ];
+			}
+			else if( bucketPos == bucket.length )
+			{
+				recipe = fallback[fallbackPos++ ];
+			}
+			else if( index.order.get( bucket[bucketPos] ) < index.order.get( fallback[fallbackPos] ) )
+			{
+				recipe = bucket[bucketPos++ ];
+			}
+			else
+			{
+				recipe = fallback[fallbackPos++ ];
+			}
+
+			if( this.matches( recipe, grid, world, player ) )
+			{
+				return recipe;
+			}
+		}
+
+		return null;
+	}
+}
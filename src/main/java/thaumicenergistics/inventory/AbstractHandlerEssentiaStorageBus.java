@@ -1,12 +1,12 @@
 package thaumicenergistics.inventory;
 
-import java.util.ArrayList;
 import java.util.List;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 import thaumcraft.api.aspects.Aspect;
 import thaumicenergistics.api.ThEApi;
+import thaumicenergistics.aspect.AspectFilter;
 import thaumicenergistics.fluids.GaseousEssentia;
 import thaumicenergistics.parts.AEPartEssentiaStorageBus;
 import appeng.api.config.AccessRestriction;
@@ -14,6 +14,7 @@ import appeng.api.config.Actionable;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.MachineSource;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.parts.IPart;
 import appeng.api.parts.IPartHost;
 import appeng.api.storage.IMEInventoryHandler;
@@ -43,7 +44,7 @@ public abstract class AbstractHandlerEssentiaStorageBus
 	/**
 	 * Filtered aspects
 	 */
-	protected List<Aspect> filteredAspects = new ArrayList<Aspect>();
+	protected AspectFilter filter = new AspectFilter();
 
 	/**
 	 * When true the filter becomes a blacklist.
@@ -89,18 +90,7 @@ public abstract class AbstractHandlerEssentiaStorageBus
 	 */
 	protected boolean allowAny()
 	{
-		// Are all filters null?
-		for( Aspect filteredAspect : this.filteredAspects )
-		{
-			if( filteredAspect != null )
-			{
-				// There is a filter
-				return false;
-			}
-		}
-
-		// No filters
-		return true;
+		return this.filter.isEmpty();
 	}
 
 	/**
@@ -124,7 +114,7 @@ public abstract class AbstractHandlerEssentiaStorageBus
 		 * Validate based on if the aspect is filtered and the storage bus is
 		 * inverted. See explanation below.
 		 */
-		return( this.filteredAspects.contains( essentiaGas.getAspect() ) == !this.inverted );
+		return( this.filter.contains( essentiaGas.getAspect() ) == !this.inverted );
 
 		/*
 		 * Truth 'table' ---- Conditions: * isFiltered = true * inverted = false
@@ -336,7 +326,7 @@ public abstract class AbstractHandlerEssentiaStorageBus
 		// Is the aspect prioritized?
 		try
 		{
-			return this.filteredAspects.contains( ( (GaseousEssentia)fluidStack.getFluidStack().getFluid() ).getAspect() );
+			return this.filter.contains( ( (GaseousEssentia)fluidStack.getFluidStack().getFluid() ).getAspect() );
 		}
 		catch( Exception e )
 		{
@@ -379,7 +369,7 @@ public abstract class AbstractHandlerEssentiaStorageBus
 	 */
 	public void setPrioritizedAspects( final List<Aspect> aspectList )
 	{
-		this.filteredAspects = aspectList;
+		this.filter.set( aspectList );
 	}
 
 	/**
@@ -394,8 +384,10 @@ public abstract class AbstractHandlerEssentiaStorageBus
 
 	/**
 	 * Called periodically by the essentia storage bus.
+	 * 
+	 * @return How the bus should adjust its tick rate.
 	 */
-	public abstract void tickingRequest( final IGridNode node, final int TicksSinceLastCall );
+	public abstract TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall );
 
 	/**
 	 * Is the handler valid for this pass?
@@ -0,0 +1,179 @@
+package thaumicenergistics.inventory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import thaumicenergistics.aspect.AspectStack;
+import thaumicenergistics.aspect.AspectStackComparator;
+import appeng.api.AEApi;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.StorageChannel;
+
+/**
+ * Snapshot of the information shown in an essentia cell's tooltip.
+ * <BR>
+ * Summaries are cached by the cell type and contents, so that showing the
+ * same cell over and over does not recreate its inventory handler. The cache
+ * is only used from the client thread.
+ * 
+ * @author Nividica
+ * 
+ */
+public final class EssentiaCellSummary
+{
+	/**
+	 * Identifies a cell by its type and contents.
+	 */
+	private static final class CellKey
+	{
+		/**
+		 * Cell type.
+		 */
+		private final int damage;
+
+		/**
+		 * Copy of the cell data.
+		 */
+		private final NBTTagCompound data;
+
+		/**
+		 * Cached hash.
+		 */
+		private final int hash;
+
+		CellKey( final int damage, final NBTTagCompound data )
+		{
+			this.damage = damage;
+			this.data = data;
+			this.hash = ( 31 * damage ) + ( data == null ? 0 : data.hashCode() );
+		}
+
+		@Override
+		public boolean equals( final Object obj )
+		{
+			if( !( obj instanceof CellKey ) )
+			{
+				return false;
+			}
+
+			CellKey other = (CellKey)obj;
+			if( ( this.hash != other.hash ) || ( this.damage != other.damage ) )
+			{
+				return false;
+			}
+
+			return( this.data == null ? other.data == null : this.data.equals( other.data ) );
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.hash;
+		}
+	}
+
+	/**
+	 * Maximum number of summaries to cache.
+	 */
+	private static final int CACHE_SIZE = 64;
+
+	/**
+	 * Cached summaries, least recently used first.
+	 */
+	private static final Map<CellKey, EssentiaCellSummary> CACHE = new LinkedHashMap<CellKey, EssentiaCellSummary>( 16, 0.75F, true )
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry( final Map.Entry<CellKey, EssentiaCellSummary> eldest )
+		{
+			return this.size() > EssentiaCellSummary.CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Bytes used by, and total bytes of, the cell.
+	 */
+	public final long usedBytes, totalBytes;
+
+	/**
+	 * Types used by, and total types of, the cell.
+	 */
+	public final int usedTypes, totalTypes;
+
+	/**
+	 * True if the cell is partitioned.
+	 */
+	public final boolean isPartitioned;
+
+	/**
+	 * True if the cell is a creative cell.
+	 */
+	public final boolean isCreative;
+
+	/**
+	 * Contents of the cell, sorted alphabetically.
+	 */
+	public final List<AspectStack> sortedContents;
+
+	private EssentiaCellSummary( final HandlerItemEssentiaCell cellHandler )
+	{
+		this.usedBytes = cellHandler.getUsedBytes();
+		this.totalBytes = cellHandler.getTotalBytes();
+		this.usedTypes = cellHandler.getUsedTypes();
+		this.totalTypes = cellHandler.getTotalTypes();
+		this.isPartitioned = cellHandler.isPartitioned();
+		this.isCreative = cellHandler.isCreative();
+
+		// Copy and sort the contents
+		List<AspectStack> contents = new ArrayList<AspectStack>( this.usedTypes );
+		for( AspectStack stack : cellHandler.getStoredEssentia() )
+		{
+			contents.add( stack.copy() );
+		}
+		Collections.sort( contents, new AspectStackComparator() );
+		this.sortedContents = Collections.unmodifiableList( contents );
+	}
+
+	/**
+	 * Gets the summary for the cell, creating a handler for it if the summary
+	 * is not cached.
+	 * <BR>
+	 * Only used by the client tooltip, status checks should read the cell
+	 * handler directly.
+	 * 
+	 * @param essentiaCell
+	 * @return Summary, or null if the item is not an essentia cell.
+	 */
+	public static EssentiaCellSummary getSummary( final ItemStack essentiaCell )
+	{
+		// Is it cached?
+		NBTTagCompound data = essentiaCell.getTagCompound();
+		CellKey key = new CellKey( essentiaCell.getItemDamage(), data );
+		EssentiaCellSummary summary = EssentiaCellSummary.CACHE.get( key );
+		if( summary != null )
+		{
+			return summary;
+		}
+
+		// Get a handler
+		IMEInventoryHandler handler = AEApi.instance().registries().cell().getCellInventory( essentiaCell, null, StorageChannel.FLUIDS );
+		if( !( handler instanceof HandlerItemEssentiaCell ) )
+		{
+			return null;
+		}
+
+		// Create the summary
+		summary = new EssentiaCellSummary( (HandlerItemEssentiaCell)handler );
+
+		// Cache it against a copy of the data, the cell data can be changed in place
+		data = essentiaCell.getTagCompound();
+		EssentiaCellSummary.CACHE.put( new CellKey( key.damage, ( data == null ? null : (NBTTagCompound)data.copy() ) ), summary );
+
+		return summary;
+	}
+}
@@ -7,6 +7,7 @@ import thaumicenergistics.parts.AEPartEssentiaStorageBus;
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
 import appeng.tile.misc.TileCondenser;
@@ -127,9 +128,10 @@ public class HandlerEssentiaStorageBusCondenser
 	}
 
 	@Override
-	public void tickingRequest( final IGridNode node, final int TicksSinceLastCall )
+	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
 	{
 		// Ignored.
+		return TickRateModulation.IDLE;
 	}
 
 	/**
@@ -1,15 +1,17 @@
 package thaumicenergistics.inventory;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Hashtable;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map.Entry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.fluids.FluidStack;
 import thaumcraft.api.aspects.Aspect;
+import thaumcraft.api.aspects.AspectList;
 import thaumcraft.api.aspects.IAspectContainer;
 import thaumcraft.common.tiles.TileEssentiaReservoir;
 import thaumcraft.common.tiles.TileJarFillableVoid;
+import thaumicenergistics.aspect.AspectIndex;
 import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.fluids.GaseousEssentia;
 import thaumicenergistics.integration.tc.EssentiaConversionHelper;
@@ -19,6 +21,7 @@ import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
 import com.google.common.collect.ImmutableList;
@@ -32,30 +35,19 @@ class HandlerEssentiaStorageBusContainer
 	private IAspectContainer aspectContainer;
 
 	/**
-	 * Cached contents of the container.
+	 * Cached contents of the container, indexed by aspect ordinal.
 	 */
-	Hashtable<Aspect, Long> cachedContainerAspects = new Hashtable<Aspect, Long>();
-
-	public HandlerEssentiaStorageBusContainer( final AEPartEssentiaStorageBus part )
-	{
-		super( part );
-	}
+	private long[] cachedAmounts = new long[AspectIndex.size()];
 
 	/**
-	 * Adds a list of aspects stacks to a <Aspect,Long> dictionary.
-	 * 
-	 * @param essentiaList
+	 * Holds the contents of the container while they are compared against the
+	 * cache. Swapped with the cache after each comparison.
 	 */
-	private void addListToDictionary( final List<AspectStack> essentiaList, final Hashtable<Aspect, Long> dictionary )
+	private long[] currentAmounts = new long[0];
+
+	public HandlerEssentiaStorageBusContainer( final AEPartEssentiaStorageBus part )
 	{
-		// Add each essentia
-		if( essentiaList != null )
-		{
-			for( AspectStack stack : essentiaList )
-			{
-				dictionary.put( stack.aspect, stack.amount );
-			}
-		}
+		super( part );
 	}
 
 	/**
@@ -68,84 +60,89 @@ class HandlerEssentiaStorageBusContainer
 	 */
 	private void adjustCache( final Aspect aspect, final long diff )
 	{
-		long cachedAmount = 0;
+		int ordinal = AspectIndex.getIndex( aspect );
+		if( ordinal < 0 )
+		{
+			return;
+		}
 
-		// Does the cache have this aspect?
-		if( this.cachedContainerAspects.containsKey( aspect ) )
+		// Ensure the cache can hold the aspect
+		if( ordinal >= this.cachedAmounts.length )
 		{
-			cachedAmount = this.cachedContainerAspects.get( aspect );
+			this.cachedAmounts = Arrays.copyOf( this.cachedAmounts, Math.max( ordinal + 1, AspectIndex.size() ) );
 		}
 
 		// Change the amount
-		long newAmount = cachedAmount + diff;
+		this.cachedAmounts[ordinal] = Math.max( 0, this.cachedAmounts[ordinal] + diff );
+	}
 
-		// Is there any amount left?
-		if( newAmount > 0 )
-		{
-			// Update the cache
-			this.cachedContainerAspects.put( aspect, newAmount );
-		}
-		// None left, was there some?
-		else if( cachedAmount > 0 )
-		{
-			// Remove from the cache
-			this.cachedContainerAspects.remove( aspect );
-		}
+	/**
+	 * Clears the cached contents of the container.
+	 */
+	private void clearCache()
+	{
+		Arrays.fill( this.cachedAmounts, 0 );
 	}
 
 	/**
-	 * Gets essentia stored in the container.
+	 * Reads the amount of each essentia in the container that can be
+	 * transfered into the specified array.
+	 * 
+	 * @param amounts
+	 * Indexed by aspect ordinal. Cleared before reading.
+	 * @return The filled array, which is replaced if it was too small.
 	 */
-	private List<AspectStack> getContainerEssentia()
+	private long[] readContainerAmounts( long[] amounts )
 	{
-		// Ensure there is a container
-		if( this.aspectContainer == null )
+		// Ensure the array can hold every aspect
+		int size = AspectIndex.size();
+		if( amounts.length < size )
 		{
-			// No container
-			return null;
+			amounts = new long[size];
 		}
-
-		// Ensure the container is whitelisted
-		if( !TEAPI.transportPermissions().canExtractFromAspectContainerTile( this.aspectContainer ) )
+		else
 		{
-			// Not whitelisted
-			return null;
+			Arrays.fill( amounts, 0 );
 		}
 
-		// Get the essentia and amounts in the container
-		List<AspectStack> containerStacks = EssentiaTileContainerHelper.INSTANCE.getAspectStacksFromContainer( this.aspectContainer );
-
-		// Ensure there is essentia in the container
-		if( ( containerStacks == null ) || containerStacks.isEmpty() )
+		// Ensure there is a container, and that it is whitelisted
+		if( ( this.aspectContainer == null ) || !TEAPI.transportPermissions().canExtractFromAspectContainerTile( this.aspectContainer ) )
 		{
-			// Empty
-			return null;
+			return amounts;
 		}
 
-		List<AspectStack> essentiaList = new ArrayList<AspectStack>();
+		// Get the list of aspects in the container
+		AspectList aspectList = this.aspectContainer.getAspects();
+		if( aspectList == null )
+		{
+			return amounts;
+		}
 
 		// Skipping the filter check?
 		boolean skipFilterCheck = this.allowAny();
 
-		// Add the essentia
-		for( AspectStack essentiaStack : containerStacks )
+		for( Entry<Aspect, Integer> essentia : aspectList.aspects.entrySet() )
 		{
-			// Is the aspect in the filter?
-			if( skipFilterCheck || ( this.filteredAspects.contains( essentiaStack.aspect ) ) )
+			// Skip empty entries
+			if( ( essentia == null ) || ( essentia.getValue() == null ) || ( essentia.getValue() <= 0 ) )
 			{
-				// Convert to fluid
-				GaseousEssentia gas = GaseousEssentia.getGasFromAspect( essentiaStack.aspect );
+				continue;
+			}
 
-				// Is there a fluid form of the aspect?
-				if( gas != null )
+			Aspect aspect = essentia.getKey();
+
+			// Is the aspect in the filter, and is there a fluid form of it?
+			if( ( skipFilterCheck || this.filter.contains( aspect ) ) && ( GaseousEssentia.getGasFromAspect( aspect ) != null ) )
+			{
+				int ordinal = AspectIndex.getIndex( aspect );
+				if( ordinal >= 0 )
 				{
-					// Add to the list
-					essentiaList.add( essentiaStack );
+					amounts[ordinal] = essentia.getValue();
 				}
 			}
 		}
 
-		return essentiaList;
+		return amounts;
 	}
 
 	@Override
@@ -292,22 +289,16 @@ class HandlerEssentiaStorageBusContainer
 	{
 		if( this.aspectContainer != null )
 		{
-			// Get the contents of the container
-			List<AspectStack> essentiaList = this.getContainerEssentia();
-
-			// Update the cache
-			this.cachedContainerAspects.clear();
-			this.addListToDictionary( essentiaList, this.cachedContainerAspects );
+			// Read the contents of the container into the cache
+			this.cachedAmounts = this.readContainerAmounts( this.cachedAmounts );
 
-			if( essentiaList != null )
+			for( int ordinal = 0; ordinal < this.cachedAmounts.length; ordinal++ )
 			{
-				for( AspectStack essentia : essentiaList )
+				if( this.cachedAmounts[ordinal] > 0 )
 				{
-					// Convert to fluid
-					GaseousEssentia gas = GaseousEssentia.getGasFromAspect( essentia.aspect );
-
 					// Add to the item list
-					out.add( EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( gas, essentia.amount ) );
+					out.add( EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( GaseousEssentia.getGasFromIndex( ordinal ),
+						this.cachedAmounts[ordinal] ) );
 				}
 			}
 		}
@@ -430,7 +421,7 @@ class HandlerEssentiaStorageBusContainer
 				this.aspectContainer = (IAspectContainer)tileEntity;
 
 				// Clear the cache
-				this.cachedContainerAspects.clear();
+				this.clearCache();
 
 				// Container changed
 				return true;
@@ -456,58 +447,29 @@ class HandlerEssentiaStorageBusContainer
 
 	/**
 	 * Checks the Thaumcraft container.
+	 * Ticks urgently while the container is changing, and slows down while it
+	 * is not.
 	 */
 	@Override
-	public void tickingRequest( final IGridNode node, final int TicksSinceLastCall )
+	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
 	{
 		// Alteration list
 		List<IAEFluidStack> alterations = null;
 
-		// Create the checklist
-		HashSet<Aspect> aspectsToCheck = new HashSet<Aspect>();
-
 		// Get the current contents of the container
-		List<AspectStack> currentContainerContents = this.getContainerEssentia();
+		this.currentAmounts = this.readContainerAmounts( this.currentAmounts );
 
-		// Convert to dictionary
-		Hashtable<Aspect, Long> currentContainerAspects = new Hashtable<Aspect, Long>();
-		if( currentContainerContents != null )
+		// Ensure the cache can hold every aspect
+		if( this.cachedAmounts.length < this.currentAmounts.length )
 		{
-			this.addListToDictionary( currentContainerContents, currentContainerAspects );
-
-			// Add the current aspects to check list
-			aspectsToCheck.addAll( currentContainerAspects.keySet() );
-		}
-
-		// Add the cached aspects to check list
-		aspectsToCheck.addAll( this.cachedContainerAspects.keySet() );
-
-		// Is there anything to check?
-		if( aspectsToCheck.size() == 0 )
-		{
-			// Nothing to check.
-			return;
+			this.cachedAmounts = Arrays.copyOf( this.cachedAmounts, this.currentAmounts.length );
 		}
 
 		// Compare all amounts
-		for( Aspect aspect : aspectsToCheck )
+		for( int ordinal = 0; ordinal < this.currentAmounts.length; ordinal++ )
 		{
-			// Value cached
-			long cachedAmount = 0;
-			if( this.cachedContainerAspects.containsKey( aspect ) )
-			{
-				cachedAmount = this.cachedContainerAspects.get( aspect );
-			}
-
-			// Current value
-			long currentAmount = 0;
-			if( currentContainerAspects.containsKey( aspect ) )
-			{
-				currentAmount = currentContainerAspects.get( aspect );
-			}
-
 			// Calculate the difference
-			long diff = currentAmount - cachedAmount;
+			long diff = this.currentAmounts[ordinal] - this.cachedAmounts[ordinal];
 
 			// Do they differ?
 			if( diff != 0 )
@@ -520,20 +482,27 @@ class HandlerEssentiaStorageBusContainer
 				}
 
 				// Create the alteration
-				alterations.add( EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( aspect, diff ) );
-
-				// Update the cache
-				this.adjustCache( aspect, diff );
+				alterations.add( EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( GaseousEssentia.getGasFromIndex( ordinal ), diff ) );
 			}
 		}
 
+		// Current contents become the cache
+		long[] previous = this.cachedAmounts;
+		this.cachedAmounts = this.currentAmounts;
+		this.currentAmounts = previous;
+
 		// Any alterations?
 		if( alterations != null )
 		{
 			// Post the changes
 			this.postAlterationToHostGrid( alterations );
+
+			// Check again soon
+			return TickRateModulation.URGENT;
 		}
 
+		// Nothing changed, back off
+		return TickRateModulation.SLOWER;
 	}
 
 	/**
@@ -6,6 +6,7 @@ import thaumicenergistics.parts.AEPartEssentiaStorageBus;
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.parts.IPart;
 import appeng.api.parts.IPartHost;
 import appeng.api.storage.data.IAEFluidStack;
@@ -62,7 +63,7 @@ public class HandlerEssentiaStorageBusDuality
 		if( this.internalHandler != null )
 		{
 			// Set the filtered aspects
-			this.internalHandler.filteredAspects = this.filteredAspects;
+			this.internalHandler.filter = this.filter;
 
 			// Set inverted
 			this.internalHandler.inverted = this.inverted;
@@ -249,14 +250,17 @@ public class HandlerEssentiaStorageBusDuality
 	}
 
 	@Override
-	public void tickingRequest( final IGridNode node, final int TicksSinceLastCall )
+	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
 	{
 		// Ensure we have an internal handler
 		if( this.internalHandler != null )
 		{
 			// Pass to handler
-			this.internalHandler.tickingRequest( node, TicksSinceLastCall );
+			return this.internalHandler.tickingRequest( node, TicksSinceLastCall );
 		}
+
+		// Nothing to tick
+		return TickRateModulation.IDLE;
 	}
 
 	@Override
@@ -1,5 +1,7 @@
 package thaumicenergistics.inventory;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraft.tileentity.TileEntity;
 import thaumicenergistics.parts.AEPartEssentiaStorageBus;
 import appeng.api.AEApi;
@@ -13,6 +15,7 @@ import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
 import appeng.api.networking.security.PlayerSource;
 import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.parts.IPart;
 import appeng.api.parts.IPartHost;
 import appeng.api.storage.IMEInventory;
@@ -52,6 +55,16 @@ class HandlerEssentiaStorageBusInterface
 	 */
 	private boolean canPostUpdate = true;
 
+	/**
+	 * True when the sub-grid list changed while updates could not be posted.
+	 */
+	private boolean isListDirty = false;
+
+	/**
+	 * Gases in the sub-grid as of the last update sent to the host grid.
+	 */
+	private IItemList<IAEFluidStack> knownGases = null;
+
 	/**
 	 * Creates the interface handler.
 	 * 
@@ -62,6 +75,70 @@ class HandlerEssentiaStorageBusInterface
 		super( part );
 	}
 
+	/**
+	 * Sends the differences between the sub-grid and the known gases to the
+	 * host grid.
+	 */
+	private void postListChanges()
+	{
+		this.canPostUpdate = false;
+		this.isListDirty = false;
+
+		// Get what changed
+		List<IAEFluidStack> changes = this.updateKnownGases();
+
+		// Update the host grid
+		if( !changes.isEmpty() )
+		{
+			this.postAlterationToHostGrid( changes );
+		}
+	}
+
+	/**
+	 * Compares the sub-grid gases with the last known gases, and updates the
+	 * known gases.
+	 * 
+	 * @return List of changes, empty if nothing changed.
+	 */
+	private List<IAEFluidStack> updateKnownGases()
+	{
+		List<IAEFluidStack> changes = new ArrayList<IAEFluidStack>();
+
+		// Get the current gases
+		IItemList<IAEFluidStack> currentGases = this.getAvailableItems( AEApi.instance().storage().createFluidList() );
+
+		if( this.knownGases != null )
+		{
+			// Find gases that were added or changed
+			for( IAEFluidStack current : currentGases )
+			{
+				IAEFluidStack known = this.knownGases.findPrecise( current );
+				long delta = current.getStackSize() - ( known == null ? 0 : known.getStackSize() );
+				if( delta != 0 )
+				{
+					IAEFluidStack change = current.copy();
+					change.setStackSize( delta );
+					changes.add( change );
+				}
+			}
+
+			// Find gases that were removed
+			for( IAEFluidStack known : this.knownGases )
+			{
+				if( currentGases.findPrecise( known ) == null )
+				{
+					IAEFluidStack change = known.copy();
+					change.setStackSize( -known.getStackSize() );
+					changes.add( change );
+				}
+			}
+		}
+
+		this.knownGases = currentGases;
+
+		return changes;
+	}
+
 	/**
 	 * Checks if the sub-grid can accept this gas.
 	 */
@@ -158,22 +235,23 @@ class HandlerEssentiaStorageBusInterface
 	}
 
 	/**
-	 * Sub-grid list changed, we should update.
+	 * Sub-grid list changed, send the differences to the host grid.
+	 * If updates can not be posted yet, they are sent on the next tick.
 	 */
 	@Override
 	public void onListUpdate()
 	{
-		if( this.canPostUpdate )
+		if( this.handler == null )
 		{
-			this.canPostUpdate = false;
-			try
-			{
-				this.partStorageBus.getGridBlock().getGrid().postEvent( new MENetworkCellArrayUpdate() );
-			}
-			catch( Exception e )
-			{
+			return;
+		}
 
-			}
+		// Mark the list as changed
+		this.isListDirty = true;
+
+		if( this.canPostUpdate )
+		{
+			this.postListChanges();
 		}
 	}
 
@@ -261,12 +339,20 @@ class HandlerEssentiaStorageBusInterface
 				}
 			}
 
+			// The cell array update will pick up the new gases
+			this.knownGases = null;
+			if( this.handler != null )
+			{
+				this.updateKnownGases();
+			}
+
 			return true;
 		}
 
 		// Not facing interface
 		this.handlerHash = 0;
 		this.MEInterface = null;
+		this.knownGases = null;
 
 		// Was the handler attached to an interface?
 		if( this.handler != null )
@@ -284,6 +370,14 @@ class HandlerEssentiaStorageBusInterface
 	@Override
 	public void postChange( final IBaseMonitor<IAEFluidStack> monitor, final Iterable<IAEFluidStack> change, final BaseActionSource actionSource )
 	{
+		// Ensure there was a change
+		if( change == null )
+		{
+			return;
+		}
+
+		boolean hostGridKnows = false;
+
 		try
 		{
 			IActionHost actionHost = null;
@@ -309,18 +403,48 @@ class HandlerEssentiaStorageBusInterface
 					// Update the host grid
 					this.postAlterationToHostGrid( change );
 				}
+
+				hostGridKnows = true;
 			}
 		}
 		catch( Exception e )
 		{
 
 		}
+
+		// Was the change not sent to the host grid?
+		if( !hostGridKnows )
+		{
+			// Leave it for the next diff
+			this.isListDirty = true;
+			return;
+		}
+
+		// Keep the known gases current
+		if( this.knownGases != null )
+		{
+			for( IAEFluidStack changedFluid : change )
+			{
+				if( this.isFluidEssentiaGas( changedFluid ) )
+				{
+					this.knownGases.add( changedFluid );
+				}
+			}
+		}
 	}
 
 	@Override
-	public void tickingRequest( final IGridNode node, final int TicksSinceLastCall )
+	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
 	{
 		this.canPostUpdate = true;
+
+		// Send any changes that arrived while posting was blocked
+		if( this.isListDirty && ( this.handler != null ) )
+		{
+			this.postListChanges();
+		}
+
+		return TickRateModulation.SAME;
 	}
 
 	@Override
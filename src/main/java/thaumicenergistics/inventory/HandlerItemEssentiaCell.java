@@ -7,6 +7,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.aspect.AspectIndex;
 import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.aspect.AspectStackComparator.ComparatorMode;
 import thaumicenergistics.fluids.GaseousEssentia;
@@ -39,6 +40,19 @@ public class HandlerItemEssentiaCell
 	 */
 	private static final long ESSENTIA_PER_BYTE = 2;
 
+	/**
+	 * Cached slot NBT keys.
+	 */
+	private static final String[] SLOT_KEYS = new String[64];
+
+	static
+	{
+		for( int index = 0; index < HandlerItemEssentiaCell.SLOT_KEYS.length; index++ )
+		{
+			HandlerItemEssentiaCell.SLOT_KEYS[index] = HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + index;
+		}
+	}
+
 	/**
 	 * Stores cell data
 	 */
@@ -49,6 +63,17 @@ public class HandlerItemEssentiaCell
 	 */
 	private AspectStack[] storedEssentia;
 
+	/**
+	 * Maps aspect ordinal -> (slot index + 1).
+	 * Zero means the aspect is not stored on the cell.
+	 */
+	private int[] aspectSlots;
+
+	/**
+	 * Number of slots holding essentia.
+	 */
+	private int usedTypes = 0;
+
 	/**
 	 * Total number of essentia types the cell can store.
 	 */
@@ -107,6 +132,7 @@ public class HandlerItemEssentiaCell
 
 		// Setup the storage
 		this.storedEssentia = new AspectStack[this.totalTypes];
+		this.aspectSlots = new int[AspectIndex.size()];
 
 		// Set the save provider
 		this.saveProvider = saveProvider;
@@ -157,6 +183,9 @@ public class HandlerItemEssentiaCell
 
 				// Store it
 				this.storedEssentia[slotIndex] = stackToAddTo;
+
+				// Index it
+				this.setSlotIndex( aspect, slotIndex );
 			}
 
 			// Add to the stack
@@ -212,6 +241,9 @@ public class HandlerItemEssentiaCell
 
 				// Update the storage
 				this.storedEssentia[slotIndex] = null;
+
+				// Remove it from the index
+				this.setSlotIndex( aspect, -1 );
 			}
 
 			// Adjust the used amount
@@ -225,6 +257,22 @@ public class HandlerItemEssentiaCell
 		return amountToExtract;
 	}
 
+	/**
+	 * Gets the NBT key for the specified slot.
+	 * 
+	 * @param slotIndex
+	 * @return
+	 */
+	private static String getSlotKey( final int slotIndex )
+	{
+		if( slotIndex < HandlerItemEssentiaCell.SLOT_KEYS.length )
+		{
+			return HandlerItemEssentiaCell.SLOT_KEYS[slotIndex];
+		}
+
+		return HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + slotIndex;
+	}
+
 	/**
 	 * Finds the first matching, or empty slot and return its index.
 	 * 
@@ -233,38 +281,29 @@ public class HandlerItemEssentiaCell
 	 */
 	private int getSlotFor( final Aspect aspect )
 	{
-		int slot = -1;
-
-		// Look for a match
-		for( int index = 0; index < this.totalTypes; index++ )
+		// Is the aspect already stored?
+		int ordinal = AspectIndex.getIndex( aspect );
+		if( ( ordinal >= 0 ) && ( ordinal < this.aspectSlots.length ) && ( this.aspectSlots[ordinal] != 0 ) )
 		{
-			// Get the stack
-			AspectStack internalStack = this.storedEssentia[index];
+			return this.aspectSlots[ordinal] - 1;
+		}
 
-			// Is the slot empty?
-			if( internalStack == null )
-			{
-				// Is this the first empty slot we have encountered?
-				if( slot == -1 )
-				{
-					// Set this as the empty slot to add to if no match is found.
-					slot = index;
-				}
-				continue;
-			}
+		// Are all slots in use?
+		if( this.usedTypes >= this.totalTypes )
+		{
+			return -1;
+		}
 
-			// Do the aspects match?
-			if( internalStack.aspect == aspect )
+		// Find the first empty slot
+		for( int index = 0; index < this.totalTypes; index++ )
+		{
+			if( this.storedEssentia[index] == null )
 			{
-				// Found a match
-				slot = index;
-
-				// Stop searching
-				break;
+				return index;
 			}
 		}
 
-		return slot;
+		return -1;
 	}
 
 	/**
@@ -276,16 +315,19 @@ public class HandlerItemEssentiaCell
 		for( int index = 0; index < this.totalTypes; index++ )
 		{
 			// Is there a essentia tag?
-			if( this.cellData.hasKey( HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + index ) )
+			if( this.cellData.hasKey( HandlerItemEssentiaCell.getSlotKey( index ) ) )
 			{
 				// Set the storage
 				this.storedEssentia[index] = AspectStack.loadAspectStackFromNBT( this.cellData
-								.getCompoundTag( HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + index ) );
+								.getCompoundTag( HandlerItemEssentiaCell.getSlotKey( index ) ) );
 
 				if( this.storedEssentia[index] != null )
 				{
 					// Update the stored amount
 					this.usedEssentiaStorage += this.storedEssentia[index].amount;
+
+					// Index the slot
+					this.setSlotIndex( this.storedEssentia[index].aspect, index );
 				}
 			}
 		}
@@ -335,6 +377,42 @@ public class HandlerItemEssentiaCell
 		}
 	}
 
+	/**
+	 * Updates the aspect index for the specified slot.
+	 * 
+	 * @param aspect
+	 * @param slotIndex
+	 * Slot the aspect is stored in, or -1 if it is no longer stored.
+	 */
+	private void setSlotIndex( final Aspect aspect, final int slotIndex )
+	{
+		int ordinal = AspectIndex.getIndex( aspect );
+		if( ordinal < 0 )
+		{
+			return;
+		}
+
+		// Was the aspect registered after the index was sized?
+		if( ordinal >= this.aspectSlots.length )
+		{
+			int[] expanded = new int[AspectIndex.size()];
+			System.arraycopy( this.aspectSlots, 0, expanded, 0, this.aspectSlots.length );
+			this.aspectSlots = expanded;
+		}
+
+		// Update the type count
+		if( ( this.aspectSlots[ordinal] == 0 ) && ( slotIndex >= 0 ) )
+		{
+			this.usedTypes++ ;
+		}
+		else if( ( this.aspectSlots[ordinal] != 0 ) && ( slotIndex < 0 ) )
+		{
+			this.usedTypes-- ;
+		}
+
+		this.aspectSlots[ordinal] = slotIndex + 1;
+	}
+
 	/**
 	 * Synchronizes the data tag to the partition list.
 	 */
@@ -384,22 +462,27 @@ public class HandlerItemEssentiaCell
 	 */
 	private void writeStorageChanges( final int slotIndex, final AspectStack aspectStack )
 	{
-		// Create a new NBT
-		NBTTagCompound essentiaTag = new NBTTagCompound();
+		String slotKey = HandlerItemEssentiaCell.getSlotKey( slotIndex );
 
 		// Is there data to write?
 		if( ( aspectStack != null ) && ( aspectStack.aspect != null ) && ( aspectStack.amount > 0 ) )
 		{
-			// Write the essentia to the tag
-			aspectStack.writeToNBT( essentiaTag );
-
-			// Update the data tag
-			this.cellData.setTag( HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + slotIndex, essentiaTag );
+			// Is there already a tag for this slot?
+			if( this.cellData.hasKey( slotKey ) )
+			{
+				// Update the existing tag in place
+				aspectStack.writeToNBT( this.cellData.getCompoundTag( slotKey ) );
+			}
+			else
+			{
+				// Write the essentia to a new tag
+				this.cellData.setTag( slotKey, aspectStack.writeToNBT( new NBTTagCompound() ) );
+			}
 		}
 		else
 		{
 			// Remove the tag, as it is now empty
-			this.cellData.removeTag( HandlerItemEssentiaCell.NBT_ESSENTIA_NUMBER_KEY + slotIndex );
+			this.cellData.removeTag( slotKey );
 		}
 
 		// Inform the save provider
@@ -687,20 +770,7 @@ public class HandlerItemEssentiaCell
 	 */
 	public int getUsedTypes()
 	{
-		// Assume we are empty
-		int typeCount = 0;
-
-		// Count the number of valid types
-		for( AspectStack stack : this.storedEssentia )
-		{
-			if( stack != null )
-			{
-				typeCount++ ;
-			}
-		}
-
-		// Return the count
-		return typeCount;
+		return this.usedTypes;
 	}
 
 	/**
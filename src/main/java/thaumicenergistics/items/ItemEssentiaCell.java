@@ -1,6 +1,5 @@
 package thaumicenergistics.items;
 
-import java.util.Collections;
 import java.util.List;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
@@ -17,8 +16,8 @@ import net.minecraftforge.common.util.ForgeDirection;
 import org.lwjgl.input.Keyboard;
 import thaumicenergistics.ThaumicEnergistics;
 import thaumicenergistics.aspect.AspectStack;
-import thaumicenergistics.aspect.AspectStackComparator;
 import thaumicenergistics.gui.ThEGuiHandler;
+import thaumicenergistics.inventory.EssentiaCellSummary;
 import thaumicenergistics.inventory.HandlerItemEssentiaCell;
 import thaumicenergistics.inventory.HandlerItemEssentiaCellCreative;
 import thaumicenergistics.registries.ItemEnum;
@@ -63,19 +62,13 @@ public class ItemEssentiaCell
 	/**
 	 * Adds the contents of the cell to the description tooltip.
 	 * 
-	 * @param cellHandler
+	 * @param cellSummary
 	 * @param displayList
 	 * @param player
 	 */
-	private void addContentsToCellDescription( final HandlerItemEssentiaCell cellHandler, final List displayList, final EntityPlayer player )
+	private void addContentsToCellDescription( final EssentiaCellSummary cellSummary, final List displayList, final EntityPlayer player )
 	{
-		// Get the list of stored aspects
-		List<AspectStack> cellAspects = cellHandler.getStoredEssentia();
-
-		// Sort the list
-		Collections.sort( cellAspects, new AspectStackComparator() );
-
-		for( AspectStack currentStack : cellAspects )
+		for( AspectStack currentStack : cellSummary.sortedContents )
 		{
 			if( currentStack != null )
 			{
@@ -106,43 +99,39 @@ public class ItemEssentiaCell
 	@Override
 	public void addInformation( final ItemStack essentiaCell, final EntityPlayer player, final List displayList, final boolean advancedItemTooltips )
 	{
-		// Get the contents of the cell
-		IMEInventoryHandler<IAEFluidStack> handler = AEApi.instance().registries().cell()
-						.getCellInventory( essentiaCell, null, StorageChannel.FLUIDS );
+		// Get the summary of the cell
+		EssentiaCellSummary cellSummary = EssentiaCellSummary.getSummary( essentiaCell );
 
-		// Ensure we have a cell inventory handler
-		if( !( handler instanceof HandlerItemEssentiaCell ) )
+		// Ensure we have a summary
+		if( cellSummary == null )
 		{
 			return;
 		}
 
-		// Cast to cell inventory handler
-		HandlerItemEssentiaCell cellHandler = (HandlerItemEssentiaCell)handler;
-
 		// Create the bytes tooltip
-		String bytesTip = String.format( ThEStrings.Tooltip_CellBytes.getLocalized(), cellHandler.getUsedBytes(), cellHandler.getTotalBytes() );
+		String bytesTip = String.format( ThEStrings.Tooltip_CellBytes.getLocalized(), cellSummary.usedBytes, cellSummary.totalBytes );
 
 		// Create the types tooltip
-		String typesTip = String.format( ThEStrings.Tooltip_CellTypes.getLocalized(), cellHandler.getUsedTypes(), cellHandler.getTotalTypes() );
+		String typesTip = String.format( ThEStrings.Tooltip_CellTypes.getLocalized(), cellSummary.usedTypes, cellSummary.totalTypes );
 
 		// Add the tooltips
 		displayList.add( bytesTip );
 		displayList.add( typesTip );
 
 		// Is the cell pre-formated?
-		if( cellHandler.isPartitioned() )
+		if( cellSummary.isPartitioned )
 		{
 			displayList.add( GuiText.Partitioned.getLocal() );
 		}
 
 		// Does the cell have anything stored?
-		if( cellHandler.getUsedTypes() > 0 )
+		if( cellSummary.usedTypes > 0 )
 		{
 			// Is shift being held?
 			if( Keyboard.isKeyDown( Keyboard.KEY_LSHIFT ) || ( Keyboard.isKeyDown( Keyboard.KEY_RSHIFT ) ) )
 			{
 				// Add information about the essentia types in the cell
-				this.addContentsToCellDescription( cellHandler, displayList, player );
+				this.addContentsToCellDescription( cellSummary, displayList, player );
 			}
 			else
 			{
@@ -3,6 +3,7 @@ package thaumicenergistics.network;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import thaumicenergistics.ThaumicEnergistics;
+import thaumicenergistics.network.handlers.HandlerAreaArcaneAssembler;
 import thaumicenergistics.network.handlers.HandlerAreaParticleFX;
 import thaumicenergistics.network.handlers.HandlerClientAspectSlot;
 import thaumicenergistics.network.handlers.HandlerClientEssentiaCellTerminal;
@@ -24,6 +25,7 @@ import thaumicenergistics.network.handlers.part.HandlerServerEssentiaIOBus;
 import thaumicenergistics.network.handlers.part.HandlerServerEssentiaLevelEmitter;
 import thaumicenergistics.network.handlers.part.HandlerServerEssentiaStorageBus;
 import thaumicenergistics.network.packet.AbstractPacket;
+import thaumicenergistics.network.packet.client.PacketAreaArcaneAssembler;
 import thaumicenergistics.network.packet.client.PacketAreaParticleFX;
 import thaumicenergistics.network.packet.client.PacketClientArcaneCraftingTerminal;
 import thaumicenergistics.network.packet.client.PacketClientAspectSlot;
@@ -102,6 +104,9 @@ public class ChannelHandler
 		// Wrench Focus
 		wrapper.registerMessage( HandlerServerWrenchFocus.class, PacketServerWrenchFocus.class, discriminator++ , Side.SERVER );
 
+		// Arcane assembler state
+		wrapper.registerMessage( HandlerAreaArcaneAssembler.class, PacketAreaArcaneAssembler.class, discriminator++ , Side.CLIENT );
+
 	}
 
 	public static void sendPacketToAllAround( final AbstractPacket packet, final int dimension, final double x, final double y, final double z,
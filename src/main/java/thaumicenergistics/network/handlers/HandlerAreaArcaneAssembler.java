@@ -0,0 +1,19 @@
+package thaumicenergistics.network.handlers;
+
+import thaumicenergistics.network.packet.client.PacketAreaArcaneAssembler;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+public class HandlerAreaArcaneAssembler
+	implements IMessageHandler<PacketAreaArcaneAssembler, IMessage>
+{
+
+	@Override
+	public IMessage onMessage( final PacketAreaArcaneAssembler message, final MessageContext ctx )
+	{
+		message.execute();
+		return null;
+	}
+
+}
@@ -3,11 +3,9 @@ package thaumicenergistics.network.packet;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -16,7 +14,9 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.api.ThEApi;
 import thaumicenergistics.parts.AbstractAEPartBase;
+import thaumicenergistics.util.ThELog;
 import appeng.api.parts.IPartHost;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.util.item.AEItemStack;
@@ -31,9 +31,50 @@ public abstract class AbstractPacket
 	implements IMessage
 {
 	/**
-	 * Starting size of buffers compressed buffers, 1 Megabyte
+	 * Size of the chunks compressed data is written in.
 	 */
-	private static final int COMPRESSED_BUFFER_SIZE = 1048576;
+	private static final int COMPRESSION_CHUNK_SIZE = 8192;
+
+	/**
+	 * Largest size a compressed stream may claim to decompress to.
+	 */
+	private static final int MAX_UNCOMPRESSED_SIZE = 2097152;
+
+	/**
+	 * Compressor for each thread that writes packets.
+	 */
+	private static final ThreadLocal<Deflater> DEFLATERS = new ThreadLocal<Deflater>()
+	{
+		@Override
+		protected Deflater initialValue()
+		{
+			return new Deflater();
+		}
+	};
+
+	/**
+	 * Decompressor for each thread that reads packets.
+	 */
+	private static final ThreadLocal<Inflater> INFLATERS = new ThreadLocal<Inflater>()
+	{
+		@Override
+		protected Inflater initialValue()
+		{
+			return new Inflater();
+		}
+	};
+
+	/**
+	 * Scratch buffer for each thread that writes packets.
+	 */
+	private static final ThreadLocal<byte[]> CHUNKS = new ThreadLocal<byte[]>()
+	{
+		@Override
+		protected byte[] initialValue()
+		{
+			return new byte[AbstractPacket.COMPRESSION_CHUNK_SIZE];
+		}
+	};
 
 	/**
 	 * Player entity
@@ -323,131 +364,125 @@ public abstract class AbstractPacket
 		stream.writeInt( world.provider.dimensionId );
 	}
 
+	/**
+	 * Decompresses the packet stream and passes it to the subclass.
+	 * 
+	 * @param packetStream
+	 */
 	private void fromCompressedBytes( final ByteBuf packetStream )
 	{
-		// Create a new data stream
-		ByteBuf decompressedStream = Unpooled.buffer( AbstractPacket.COMPRESSED_BUFFER_SIZE );
+		// Read the uncompressed size
+		int uncompressedSize = packetStream.readInt();
 
-		GZIPInputStream decompressor = null;
-		try
+		// Is the size sane?
+		if( ( uncompressedSize < 0 ) || ( uncompressedSize > AbstractPacket.MAX_UNCOMPRESSED_SIZE ) )
 		{
-			// Create the decompressor
-			decompressor = new GZIPInputStream( new InputStream()
-			{
+			ThELog.warning( "Rejected compressed packet claiming %d bytes", uncompressedSize );
+			this.mode = -1;
+			return;
+		}
 
-				@Override
-				public int read() throws IOException
-				{
-					// Is there anymore data to read from the packet stream?
-					if( packetStream.readableBytes() <= 0 )
-					{
-						// Return end marker
-						return -1;
-					}
-
-					// Return the byte
-					return packetStream.readByte() & 0xFF;
-				}
-			} );
+		// Read the compressed data
+		byte[] compressed = new byte[packetStream.readableBytes()];
+		packetStream.readBytes( compressed );
 
-			// Create a temporary holding array
-			byte[] holding = new byte[512];
+		// Get the decompressor
+		Inflater inflater = AbstractPacket.INFLATERS.get();
 
+		try
+		{
 			// Decompress
-			while( decompressor.available() != 0 )
+			byte[] decompressed = new byte[uncompressedSize];
+			inflater.setInput( compressed );
+			int bytesRead = 0;
+			while( ( bytesRead < uncompressedSize ) && !inflater.finished() )
 			{
-				// Read into the holding array
-				int bytesRead = decompressor.read( holding );
-
-				// Did we read any data?
-				if( bytesRead > 0 )
+				int inflated = inflater.inflate( decompressed, bytesRead, uncompressedSize - bytesRead );
+				if( ( inflated == 0 ) && ( inflater.needsInput() || inflater.needsDictionary() ) )
 				{
-					// Write the holding array into the decompressed stream
-					decompressedStream.writeBytes( holding, 0, bytesRead );
+					// Truncated data
+					break;
 				}
+				bytesRead += inflated;
 			}
 
-			// Close the decompressor
-			decompressor.close();
-
-			// Reset stream position
-			decompressedStream.readerIndex( 0 );
-
 			// Pass to subclass
-			this.readData( decompressedStream );
-
+			this.readData( Unpooled.wrappedBuffer( decompressed, 0, bytesRead ) );
 		}
-		catch( IOException e )
+		catch( DataFormatException e )
 		{
 			// Failed
-			if( decompressor != null )
-			{
-				try
-				{
-					decompressor.close();
-				}
-				catch( IOException e1 )
-				{
-				}
-			}
+			ThELog.warning( "Unable to decompress packet: %s", e.getMessage() );
+		}
+		finally
+		{
+			inflater.reset();
 		}
 	}
 
 	/**
 	 * Creates a new stream, calls to the subclass to write
 	 * into it, then compresses it into the packet stream.
+	 * If the data is smaller than the compression threshold it is
+	 * written uncompressed.
 	 * 
 	 * @param packetStream
 	 */
 	private void toCompressedBytes( final ByteBuf packetStream )
 	{
 		// Create a new data stream
-		ByteBuf streamToCompress = Unpooled.buffer( AbstractPacket.COMPRESSED_BUFFER_SIZE );
+		ByteBuf streamToCompress = Unpooled.buffer();
 
 		// Pass to subclass
 		this.writeData( streamToCompress );
 
-		GZIPOutputStream compressor = null;
-		try
+		int uncompressedSize = streamToCompress.readableBytes();
+
+		// Is the data too small to bother compressing?
+		if( uncompressedSize < ThEApi.instance().config().packetCompressionThreshold() )
 		{
-			// Create the compressor
-			compressor = new GZIPOutputStream( new OutputStream()
-			{
+			// Write it directly
+			packetStream.writeBoolean( false );
+			packetStream.writeBytes( streamToCompress );
+			return;
+		}
 
-				@Override
-				public void write( final int byteToWrite ) throws IOException
-				{
-					// Write the byte to the packet stream
-					packetStream.writeByte( byteToWrite & 0xFF );
-				}
-			} )
-			{
-				{
-					this.def.setLevel( Deflater.BEST_COMPRESSION );
-				}
-			};
+		// Mark as compressed
+		packetStream.writeBoolean( true );
 
-			// Compress
-			compressor.write( streamToCompress.array(), 0, streamToCompress.writerIndex() );
+		// Write the uncompressed size
+		packetStream.writeInt( uncompressedSize );
 
-			// Close the compressor
-			compressor.close();
-		}
-		catch( IOException e )
-		{
-			// Failed
+		// Get the compressor
+		Deflater deflater = AbstractPacket.DEFLATERS.get();
+		byte[] chunk = AbstractPacket.CHUNKS.get();
 
-			if( compressor != null )
+		try
+		{
+			// Compress
+			deflater.setLevel( ThEApi.instance().config().packetCompressionLevel() );
+			deflater.setInput( streamToCompress.array(), streamToCompress.arrayOffset() + streamToCompress.readerIndex(), uncompressedSize );
+			deflater.finish();
+			while( !deflater.finished() )
 			{
-				try
-				{
-					compressor.close();
-				}
-				catch( IOException e1 )
-				{
-				}
+				int compressedSize = deflater.deflate( chunk );
+				packetStream.writeBytes( chunk, 0, compressedSize );
 			}
 		}
+		finally
+		{
+			deflater.reset();
+		}
+	}
+
+	/**
+	 * Returns true if the packet may arrive with compressed data.
+	 * 
+	 * @return
+	 */
+	protected boolean allowsCompression()
+	{
+		return true;
 	}
 
 	/**
@@ -479,8 +514,16 @@ public abstract class AbstractPacket
 		this.player = AbstractPacket.readPlayer( stream );
 		this.useCompression = stream.readBoolean();
 
+		// Is compression allowed for this packet?
+		if( this.useCompression && !this.allowsCompression() )
+		{
+			ThELog.warning( "Rejected compressed %s", this.getClass().getSimpleName() );
+			this.mode = -1;
+			return;
+		}
+
 		// Is there a compressed substream?
-		if( this.useCompression )
+		if( this.useCompression && stream.readBoolean() )
 		{
 			this.fromCompressedBytes( stream );
 		}
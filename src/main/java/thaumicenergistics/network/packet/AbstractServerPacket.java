@@ -11,6 +11,16 @@ import thaumicenergistics.network.ChannelHandler;
 public abstract class AbstractServerPacket
 	extends AbstractPacket
 {
+	/**
+	 * Packets sent to the server are never compressed, so a client can not
+	 * make the server inflate large payloads.
+	 */
+	@Override
+	protected boolean allowsCompression()
+	{
+		return false;
+	}
+
 	/**
 	 * Send this packet to the server.
 	 */
@@ -0,0 +1,177 @@
+package thaumicenergistics.network.packet.client;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import thaumicenergistics.network.packet.AbstractAreaPacket;
+import thaumicenergistics.tileentities.TileArcaneAssembler;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Sends the parts of an arcane assembler's state that have changed.
+ * 
+ * @author Nividica
+ * 
+ */
+public class PacketAreaArcaneAssembler
+	extends AbstractAreaPacket
+{
+	private static final byte MODE_STATE_CHANGES = 0;
+
+	/**
+	 * Bit set in the change mask when the crafting state has changed.
+	 */
+	private static final int CRAFTING_CHANGED_BIT = 1 << TileArcaneAssembler.PRIMALS.length;
+
+	/**
+	 * Which primals, and if the crafting state, have changed.
+	 */
+	private int changeMask;
+
+	/**
+	 * Vis amounts of the changed primals.
+	 */
+	private int[] visAmounts = new int[TileArcaneAssembler.PRIMALS.length];
+
+	/**
+	 * Progress of the lead craft, or -1 if not crafting.
+	 */
+	private int craftProgress;
+
+	@Override
+	protected void readData( final ByteBuf stream )
+	{
+		// Call super
+		super.readData( stream );
+
+		switch ( this.mode )
+		{
+			case PacketAreaArcaneAssembler.MODE_STATE_CHANGES:
+				// Read the mask
+				this.changeMask = stream.readUnsignedByte();
+
+				// Read the changed vis amounts
+				for( int index = 0; index < this.visAmounts.length; ++index )
+				{
+					if( ( this.changeMask & ( 1 << index ) ) != 0 )
+					{
+						this.visAmounts[index] = stream.readShort();
+					}
+				}
+
+				// Read the crafting progress
+				if( ( this.changeMask & PacketAreaArcaneAssembler.CRAFTING_CHANGED_BIT ) != 0 )
+				{
+					this.craftProgress = stream.readShort();
+				}
+				break;
+		}
+	}
+
+	@Override
+	protected void writeData( final ByteBuf stream )
+	{
+		// Call super
+		super.writeData( stream );
+
+		switch ( this.mode )
+		{
+			case PacketAreaArcaneAssembler.MODE_STATE_CHANGES:
+				// Write the mask
+				stream.writeByte( this.changeMask );
+
+				// Write the changed vis amounts
+				for( int index = 0; index < this.visAmounts.length; ++index )
+				{
+					if( ( this.changeMask & ( 1 << index ) ) != 0 )
+					{
+						stream.writeShort( this.visAmounts[index] );
+					}
+				}
+
+				// Write the crafting progress
+				if( ( this.changeMask & PacketAreaArcaneAssembler.CRAFTING_CHANGED_BIT ) != 0 )
+				{
+					stream.writeShort( this.craftProgress );
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Creates a packet holding the changed state of the assembler.
+	 * 
+	 * @param world
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @param changedVis
+	 * Bit mask of the changed primals, in the order of
+	 * {@link TileArcaneAssembler#PRIMALS}.
+	 * @param visAmounts
+	 * @param craftingChanged
+	 * @param craftProgress
+	 * Progress of the lead craft, or -1 if not crafting.
+	 * @return
+	 */
+	public PacketAreaArcaneAssembler createStateChanges( final World world, final int x, final int y, final int z, final int changedVis,
+															final int[] visAmounts, final boolean craftingChanged, final int craftProgress )
+	{
+		// Set the mode
+		this.mode = PacketAreaArcaneAssembler.MODE_STATE_CHANGES;
+
+		// Set the world
+		this.targetWorld = world;
+
+		// Set the target coords
+		this.targetX = x;
+		this.targetY = y;
+		this.targetZ = z;
+
+		// Set the mask
+		this.changeMask = changedVis;
+		if( craftingChanged )
+		{
+			this.changeMask |= PacketAreaArcaneAssembler.CRAFTING_CHANGED_BIT;
+		}
+
+		// Copy the changed amounts
+		for( int index = 0; index < this.visAmounts.length; ++index )
+		{
+			if( ( changedVis & ( 1 << index ) ) != 0 )
+			{
+				this.visAmounts[index] = visAmounts[index];
+			}
+		}
+
+		// Set the progress
+		this.craftProgress = craftProgress;
+
+		return this;
+	}
+
+	@SideOnly(Side.CLIENT)
+	@Override
+	public void wrappedExecute()
+	{
+		// Ensure the world is valid
+		if( this.targetWorld == null )
+		{
+			return;
+		}
+
+		switch ( this.mode )
+		{
+			case PacketAreaArcaneAssembler.MODE_STATE_CHANGES:
+				// Get the assembler
+				TileEntity tile = this.targetWorld.getTileEntity( (int)this.targetX, (int)this.targetY, (int)this.targetZ );
+				if( tile instanceof TileArcaneAssembler )
+				{
+					( (TileArcaneAssembler)tile ).onReceiveStateChanges( this.changeMask & ~PacketAreaArcaneAssembler.CRAFTING_CHANGED_BIT,
+						this.visAmounts, ( this.changeMask & PacketAreaArcaneAssembler.CRAFTING_CHANGED_BIT ) != 0, this.craftProgress );
+				}
+				break;
+		}
+	}
+}
@@ -1,7 +1,8 @@
 package thaumicenergistics.network.packet.client;
 
 import io.netty.buffer.ByteBuf;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Gui;
 import net.minecraft.entity.player.EntityPlayer;
@@ -9,12 +10,10 @@ import thaumicenergistics.gui.GuiArcaneCraftingTerminal;
 import thaumicenergistics.network.packet.AbstractClientPacket;
 import thaumicenergistics.network.packet.AbstractPacket;
 import thaumicenergistics.registries.EnumCache;
-import appeng.api.AEApi;
 import appeng.api.config.SortDir;
 import appeng.api.config.SortOrder;
 import appeng.api.config.ViewItems;
 import appeng.api.storage.data.IAEItemStack;
-import appeng.api.storage.data.IItemList;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -28,7 +27,9 @@ public class PacketClientArcaneCraftingTerminal
 					MODE_UPDATE_COSTS = 4;
 
 	private IAEItemStack changedStack;
-	private IItemList<IAEItemStack> fullList;
+	private List<IAEItemStack> changedStacks;
+	private List<IAEItemStack> fullList;
+	private boolean isLastChunk;
 	private boolean isHeldEmpty;
 	private SortOrder sortingOrder;
 	private SortDir sortingDirection;
@@ -48,12 +49,12 @@ public class PacketClientArcaneCraftingTerminal
 			{
 				case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_FULL_LIST:
 					// Set the item list
-					( (GuiArcaneCraftingTerminal)gui ).onReceiveFullList( this.fullList );
+					( (GuiArcaneCraftingTerminal)gui ).onReceiveFullList( this.fullList, this.isLastChunk );
 					break;
 
 				case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_CHANGE:
 					// Update the item list
-					( (GuiArcaneCraftingTerminal)gui ).onReceiveChange( this.changedStack );
+					( (GuiArcaneCraftingTerminal)gui ).onReceiveChange( this.changedStacks );
 					break;
 
 				case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_PLAYER_HOLDING:
@@ -73,12 +74,12 @@ public class PacketClientArcaneCraftingTerminal
 	}
 
 	/**
-	 * Creates a packet with a changed network stack amount
+	 * Creates a packet with changed network stack amounts
 	 * 
 	 * @param player
-	 * @param change
+	 * @param changes
 	 */
-	public PacketClientArcaneCraftingTerminal createChangeUpdate( final EntityPlayer player, final IAEItemStack change )
+	public PacketClientArcaneCraftingTerminal createChangeUpdate( final EntityPlayer player, final List<IAEItemStack> changes )
 	{
 		// Set the player
 		this.player = player;
@@ -86,20 +87,22 @@ public class PacketClientArcaneCraftingTerminal
 		// Set the mode
 		this.mode = PacketClientArcaneCraftingTerminal.MODE_RECEIVE_CHANGE;
 
-		// Set the change
-		this.changedStack = change;
+		// Set the changes
+		this.changedStacks = changes;
 
 		return this;
 	}
 
 	/**
-	 * Creates a packet with the full list of items in the AE network.
+	 * Creates a packet with part of the full list of items in the AE network.
 	 * Only send in response to a request.
 	 * 
 	 * @param player
 	 * @param fullList
+	 * @param isLastChunk
 	 */
-	public PacketClientArcaneCraftingTerminal createFullListUpdate( final EntityPlayer player, final IItemList<IAEItemStack> fullList )
+	public PacketClientArcaneCraftingTerminal createFullListUpdate( final EntityPlayer player, final List<IAEItemStack> fullList,
+																	final boolean isLastChunk )
 	{
 		// Set the player
 		this.player = player;
@@ -113,6 +116,9 @@ public class PacketClientArcaneCraftingTerminal
 		// Set the full list
 		this.fullList = fullList;
 
+		// Set if this is the end of the list
+		this.isLastChunk = isLastChunk;
+
 		return this;
 	}
 
@@ -188,12 +194,15 @@ public class PacketClientArcaneCraftingTerminal
 		switch ( this.mode )
 		{
 			case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_FULL_LIST:
-				// Create a new list
-				this.fullList = AEApi.instance().storage().createItemList();
+				// Read if this is the end of the list
+				this.isLastChunk = stream.readBoolean();
 
 				// Read how many items there are
 				int count = stream.readInt();
 
+				// Create a new list
+				this.fullList = new ArrayList<IAEItemStack>( count );
+
 				for( int i = 0; i < count; i++ )
 				{
 					// Also ensure there are bytes to read
@@ -215,14 +224,30 @@ public class PacketClientArcaneCraftingTerminal
 				break;
 
 			case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_CHANGE:
-				// Read the change amount
-				int changeAmount = stream.readInt();
+				// Read how many changes there are
+				int changeCount = stream.readInt();
+
+				// Create the list
+				this.changedStacks = new ArrayList<IAEItemStack>( changeCount );
 
-				// Read the item
-				this.changedStack = AbstractPacket.readAEItemStack( stream );
+				for( int i = 0; i < changeCount; i++ )
+				{
+					// Read the change amount
+					int changeAmount = stream.readInt();
+
+					// Read the item
+					IAEItemStack change = AbstractPacket.readAEItemStack( stream );
+
+					// Ensure it is not null
+					if( change != null )
+					{
+						// Adjust it's size
+						change.setStackSize( changeAmount );
 
-				// Adjust it's size
-				this.changedStack.setStackSize( changeAmount );
+						// Add to the list
+						this.changedStacks.add( change );
+					}
+				}
 
 				break;
 
@@ -256,6 +281,9 @@ public class PacketClientArcaneCraftingTerminal
 		switch ( this.mode )
 		{
 			case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_FULL_LIST:
+				// Write if this is the end of the list
+				stream.writeBoolean( this.isLastChunk );
+
 				// Is the list null?
 				if( this.fullList == null )
 				{
@@ -267,22 +295,25 @@ public class PacketClientArcaneCraftingTerminal
 				// Write how many items there are
 				stream.writeInt( this.fullList.size() );
 
-				// Get the iterator
-				Iterator<IAEItemStack> listIterator = this.fullList.iterator();
-
 				// Write each item
-				while( listIterator.hasNext() )
+				for( IAEItemStack stack : this.fullList )
 				{
-					AbstractPacket.writeAEItemStack( listIterator.next(), stream );
+					AbstractPacket.writeAEItemStack( stack, stream );
 				}
 				break;
 
 			case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_CHANGE:
-				// Write the change amount
-				stream.writeInt( (int)this.changedStack.getStackSize() );
+				// Write how many changes there are
+				stream.writeInt( this.changedStacks.size() );
+
+				for( IAEItemStack change : this.changedStacks )
+				{
+					// Write the change amount
+					stream.writeInt( (int)change.getStackSize() );
 
-				// Write the change
-				AbstractPacket.writeAEItemStack( this.changedStack, stream );
+					// Write the change
+					AbstractPacket.writeAEItemStack( change, stream );
+				}
 				break;
 
 			case PacketClientArcaneCraftingTerminal.MODE_RECEIVE_PLAYER_HOLDING:
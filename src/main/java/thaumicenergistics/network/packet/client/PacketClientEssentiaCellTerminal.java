@@ -26,7 +26,6 @@ public class PacketClientEssentiaCellTerminal
 	private List<AspectStack> aspectStackList;
 	private Aspect selectedAspect;
 	private ComparatorMode sortMode;
-	private AspectStack change;
 
 	@SideOnly(Side.CLIENT)
 	@Override
@@ -53,13 +52,13 @@ public class PacketClientEssentiaCellTerminal
 
 				case PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED:
 					// Update the list
-					( (GuiEssentiaCellTerminal)gui ).onReceiveAspectListChange( this.change );
+					( (GuiEssentiaCellTerminal)gui ).onReceiveAspectListChange( this.aspectStackList );
 					break;
 			}
 		}
 	}
 
-	public PacketClientEssentiaCellTerminal createListChanged( final EntityPlayer player, final AspectStack change )
+	public PacketClientEssentiaCellTerminal createListChanged( final EntityPlayer player, final List<AspectStack> changes )
 	{
 		// Set the player
 		this.player = player;
@@ -67,8 +66,8 @@ public class PacketClientEssentiaCellTerminal
 		// Set the mode
 		this.mode = PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED;
 
-		// Set the change
-		this.change = change;
+		// Set the changes
+		this.aspectStackList = changes;
 
 		return this;
 	}
@@ -125,6 +124,7 @@ public class PacketClientEssentiaCellTerminal
 		switch ( this.mode )
 		{
 			case PacketClientEssentiaCellTerminal.MODE_FULL_LIST:
+			case PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED:
 				this.aspectStackList = new ArrayList<AspectStack>();
 
 				while( stream.readableBytes() > 0 )
@@ -141,10 +141,6 @@ public class PacketClientEssentiaCellTerminal
 				// Read the mode ordinal
 				this.sortMode = ComparatorMode.VALUES[stream.readInt()];
 				break;
-
-			case PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED:
-				// Read the stack
-				this.change = new AspectStack( AbstractPacket.readAspect( stream ), stream.readLong() );
 		}
 	}
 
@@ -155,6 +151,7 @@ public class PacketClientEssentiaCellTerminal
 		switch ( this.mode )
 		{
 			case PacketClientEssentiaCellTerminal.MODE_FULL_LIST:
+			case PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED:
 				for( AspectStack stack : this.aspectStackList )
 				{
 					AbstractPacket.writeAspect( stack.aspect, stream );
@@ -171,13 +168,6 @@ public class PacketClientEssentiaCellTerminal
 				// Write the mode ordinal
 				stream.writeInt( this.sortMode.ordinal() );
 				break;
-
-			case PacketClientEssentiaCellTerminal.MODE_LIST_CHANGED:
-				// Write the aspect
-				AbstractPacket.writeAspect( this.change.aspect, stream );
-
-				// Write the amount
-				stream.writeLong( this.change.amount );
 		}
 	}
 }
@@ -20,10 +20,14 @@ public class PacketClientEssentiaEmitter
 
 	private static final byte MODE_UPDATE_REDSTONE = 2;
 
+	private static final byte MODE_UPDATE_HYSTERESIS = 3;
+
 	private RedstoneMode redstoneMode;
 
 	private long wantedAmount;
 
+	private long hysteresis;
+
 	@SideOnly(Side.CLIENT)
 	@Override
 	protected void wrappedExecute()
@@ -40,6 +44,7 @@ public class PacketClientEssentiaEmitter
 				case PacketClientEssentiaEmitter.MODE_FULL_UPDATE:
 					// Full update
 					( (GuiEssentiaLevelEmitter)gui ).onServerUpdateWantedAmount( this.wantedAmount );
+					( (GuiEssentiaLevelEmitter)gui ).onServerUpdateHysteresis( this.hysteresis );
 					( (GuiEssentiaLevelEmitter)gui ).onServerUpdateRedstoneMode( this.redstoneMode );
 					break;
 
@@ -52,6 +57,11 @@ public class PacketClientEssentiaEmitter
 					// Update redstone mode
 					( (GuiEssentiaLevelEmitter)gui ).onServerUpdateRedstoneMode( this.redstoneMode );
 					break;
+
+				case PacketClientEssentiaEmitter.MODE_UPDATE_HYSTERESIS:
+					// Update hysteresis
+					( (GuiEssentiaLevelEmitter)gui ).onServerUpdateHysteresis( this.hysteresis );
+					break;
 			}
 		}
 	}
@@ -61,10 +71,12 @@ public class PacketClientEssentiaEmitter
 	 * 
 	 * @param redstoneMode
 	 * @param wantedAmount
+	 * @param hysteresis
 	 * @param player
 	 * @return
 	 */
-	public PacketClientEssentiaEmitter createFullUpdate( final RedstoneMode redstoneMode, final long wantedAmount, final EntityPlayer player )
+	public PacketClientEssentiaEmitter createFullUpdate( final RedstoneMode redstoneMode, final long wantedAmount, final long hysteresis,
+															final EntityPlayer player )
 	{
 		// Set the player
 		this.player = player;
@@ -78,6 +90,30 @@ public class PacketClientEssentiaEmitter
 		// Set the wanted amount
 		this.wantedAmount = wantedAmount;
 
+		// Set the hysteresis
+		this.hysteresis = hysteresis;
+
+		return this;
+	}
+
+	/**
+	 * Create a packet to update a client with a new hysteresis.
+	 * 
+	 * @param hysteresis
+	 * @param player
+	 * @return
+	 */
+	public PacketClientEssentiaEmitter createHysteresisUpdate( final long hysteresis, final EntityPlayer player )
+	{
+		// Set the player
+		this.player = player;
+
+		// Set the mode
+		this.mode = PacketClientEssentiaEmitter.MODE_UPDATE_HYSTERESIS;
+
+		// Set the hysteresis
+		this.hysteresis = hysteresis;
+
 		return this;
 	}
 
@@ -127,6 +163,9 @@ public class PacketClientEssentiaEmitter
 
 				// Read the wanted amount
 				this.wantedAmount = stream.readLong();
+
+				// Read the hysteresis
+				this.hysteresis = stream.readLong();
 				break;
 
 			case PacketClientEssentiaEmitter.MODE_UPDATE_WANTED:
@@ -138,6 +177,11 @@ public class PacketClientEssentiaEmitter
 				// Read the redstone mode ordinal
 				this.redstoneMode = EnumCache.AE_REDSTONE_MODES[stream.readInt()];
 				break;
+
+			case PacketClientEssentiaEmitter.MODE_UPDATE_HYSTERESIS:
+				// Read the hysteresis
+				this.hysteresis = stream.readLong();
+				break;
 		}
 	}
 
@@ -152,6 +196,9 @@ public class PacketClientEssentiaEmitter
 
 				// Write the wanted amount
 				stream.writeLong( this.wantedAmount );
+
+				// Write the hysteresis
+				stream.writeLong( this.hysteresis );
 				break;
 
 			case PacketClientEssentiaEmitter.MODE_UPDATE_WANTED:
@@ -164,6 +211,11 @@ public class PacketClientEssentiaEmitter
 				stream.writeInt( this.redstoneMode.ordinal() );
 
 				break;
+
+			case PacketClientEssentiaEmitter.MODE_UPDATE_HYSTERESIS:
+				// Write the hysteresis
+				stream.writeLong( this.hysteresis );
+				break;
 		}
 	}
 }
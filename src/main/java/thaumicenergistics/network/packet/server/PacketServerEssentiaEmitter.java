@@ -17,12 +17,41 @@ public class PacketServerEssentiaEmitter
 
 	private static final byte MODE_TOGGLE_REDSTONE = 3;
 
+	private static final byte MODE_SEND_HYSTERESIS = 4;
+
 	private AEPartEssentiaLevelEmitter part;
 
 	private long wantedAmount;
 
 	private int adjustmentAmount;
 
+	private long hysteresis;
+
+	/**
+	 * Creates a packet to update the hysteresis on the server
+	 * 
+	 * @param hysteresis
+	 * @param part
+	 * @param player
+	 * @return
+	 */
+	public PacketServerEssentiaEmitter createHysteresisUpdate( final long hysteresis, final AEPartEssentiaLevelEmitter part, final EntityPlayer player )
+	{
+		// Set the player
+		this.player = player;
+
+		// Set the mode
+		this.mode = PacketServerEssentiaEmitter.MODE_SEND_HYSTERESIS;
+
+		// Set the part
+		this.part = part;
+
+		// Set the hysteresis
+		this.hysteresis = hysteresis;
+
+		return this;
+	}
+
 	public PacketServerEssentiaEmitter createRedstoneModeToggle( final AEPartEssentiaLevelEmitter part, final EntityPlayer player )
 	{
 		// Set the player
@@ -135,6 +164,11 @@ public class PacketServerEssentiaEmitter
 				// Toggle the redstone mode
 				this.part.onClientToggleRedstoneMode( this.player );
 				break;
+
+			case PacketServerEssentiaEmitter.MODE_SEND_HYSTERESIS:
+				// Set the hysteresis
+				this.part.onClientSetHysteresis( this.hysteresis, this.player );
+				break;
 		}
 	}
 
@@ -168,6 +202,14 @@ public class PacketServerEssentiaEmitter
 				// Read the part
 				this.part = (AEPartEssentiaLevelEmitter)AbstractPacket.readPart( stream );
 				break;
+
+			case PacketServerEssentiaEmitter.MODE_SEND_HYSTERESIS:
+				// Read the part
+				this.part = (AEPartEssentiaLevelEmitter)AbstractPacket.readPart( stream );
+
+				// Read the hysteresis
+				this.hysteresis = stream.readLong();
+				break;
 		}
 	}
 
@@ -201,6 +243,14 @@ public class PacketServerEssentiaEmitter
 				// Write the part
 				AbstractPacket.writePart( this.part, stream );
 				break;
+
+			case PacketServerEssentiaEmitter.MODE_SEND_HYSTERESIS:
+				// Write the part
+				AbstractPacket.writePart( this.part, stream );
+
+				// Write the hysteresis
+				stream.writeLong( this.hysteresis );
+				break;
 		}
 	}
 
@@ -1,5 +1,6 @@
 package thaumicenergistics.parts;
 
+import java.util.Arrays;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.entity.player.EntityPlayer;
@@ -34,6 +35,11 @@ public class AEPartEssentiaExportBus
 	 */
 	private boolean isVoidAllowed = false;
 
+	/**
+	 * Aspects the container will accept during a work cycle.
+	 */
+	private final Aspect[] eligibleAspects = new Aspect[AbstractAEPartEssentiaIOBus.MAX_FILTER_SIZE];
+
 	public AEPartEssentiaExportBus()
 	{
 		super( AEPartsEnum.EssentiaExportBus );
@@ -74,18 +80,21 @@ public class AEPartEssentiaExportBus
 	/**
 	 * Attempts to transfer essentia out of the network and into the adjacent
 	 * container.
+	 * The amount is split between every filtered aspect the container will
+	 * accept, with any share an aspect can not use passed on to the rest.
 	 */
 	@Override
 	public boolean doWork( final int amountToFillContainer )
 	{
-		// Ensure we have a container.
-		if( this.facingContainer == null )
+		// Ensure we have a container and something to export.
+		if( ( this.facingContainer == null ) || this.filter.isEmpty() )
 		{
-			// Invalid container
+			// Invalid container or no filters
 			return false;
 		}
 
-		// Loop over all aspect filters
+		// Find the aspects the container will take
+		int eligibleCount = 0;
 		for( Aspect filterAspect : this.filteredAspects )
 		{
 			// Can we transfer?
@@ -105,6 +114,27 @@ public class AEPartEssentiaExportBus
 				}
 			}
 
+			this.eligibleAspects[eligibleCount++ ] = filterAspect;
+		}
+
+		// Anything to export?
+		if( eligibleCount == 0 )
+		{
+			return false;
+		}
+
+		// Do we have the power to transfer the full amount?
+		if( !this.extractPowerForEssentiaTransfer( amountToFillContainer, Actionable.SIMULATE ) )
+		{
+			// Not enough power, abort
+			return false;
+		}
+
+		int remainingEU = amountToFillContainer;
+		for( int index = 0; ( index < eligibleCount ) && ( remainingEU > 0 ); ++index )
+		{
+			Aspect filterAspect = this.eligibleAspects[index];
+
 			// Get the gas form of the essentia
 			GaseousEssentia essentiaGas = GaseousEssentia.getGasFromAspect( filterAspect );
 
@@ -114,8 +144,12 @@ public class AEPartEssentiaExportBus
 				continue;
 			}
 
+			// Split what is left between the remaining aspects
+			int aspectsLeft = eligibleCount - index;
+			int shareEU = ( remainingEU + aspectsLeft - 1 ) / aspectsLeft;
+
 			// Create the fluid stack
-			IAEFluidStack toExtract = EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( essentiaGas, amountToFillContainer );
+			IAEFluidStack toExtract = EssentiaConversionHelper.INSTANCE.createAEFluidStackInEssentiaUnits( essentiaGas, shareEU );
 
 			// Simulate a network extraction
 			IAEFluidStack extractedStack = this.extractFluid( toExtract, Actionable.SIMULATE );
@@ -127,7 +161,7 @@ public class AEPartEssentiaExportBus
 				continue;
 			}
 
-			int filledAmountFU, filledAmountEU;
+			int filledAmountFU;
 			if( this.isVoidAllowed && ( this.facingContainer instanceof TileJarFillableVoid ) )
 			{
 				// In void mode, we don't care if the jar can hold it or not.
@@ -147,28 +181,29 @@ public class AEPartEssentiaExportBus
 				continue;
 			}
 
-			// Do we have the power to transfer this amount?
-			filledAmountEU = (int)EssentiaConversionHelper.INSTANCE.convertFluidAmountToEssentiaAmount( filledAmountFU );
-			if( !this.extractPowerForEssentiaTransfer( filledAmountEU, Actionable.SIMULATE ) )
-			{
-				// Not enough power, abort
-				return false;
-			}
-
 			// Fill the container
 			EssentiaTileContainerHelper.INSTANCE.injectIntoContainer( this.facingContainer, extractedStack, Actionable.MODULATE );
 
-			// Take the power required for the filled amount
-			this.extractPowerForEssentiaTransfer( filledAmountEU, Actionable.MODULATE );
-
 			// Take essentia from the network
 			this.extractFluid( EssentiaConversionHelper.INSTANCE.createAEFluidStackInFluidUnits( essentiaGas, filledAmountFU ), Actionable.MODULATE );
 
-			// Done
-			return true;
+			remainingEU -= (int)EssentiaConversionHelper.INSTANCE.convertFluidAmountToEssentiaAmount( filledAmountFU );
 		}
 
-		return false;
+		// Release the aspects
+		Arrays.fill( this.eligibleAspects, null );
+
+		// Was anything transfered?
+		int transferedEU = amountToFillContainer - remainingEU;
+		if( transferedEU <= 0 )
+		{
+			return false;
+		}
+
+		// Take the power for everything transfered
+		this.extractPowerForEssentiaTransfer( transferedEU, Actionable.MODULATE );
+
+		return true;
 	}
 
 	@Override
@@ -27,29 +27,10 @@ public class AEPartEssentiaImportBus
 	@Override
 	public boolean aspectTransferAllowed( final Aspect aspect )
 	{
-		boolean noFilters = true;
-
 		if( aspect != null )
 		{
-			for( Aspect filterAspect : this.filteredAspects )
-			{
-				// Is the aspect not null?
-				if( filterAspect != null )
-				{
-					// Does it match this aspect?
-					if( aspect == filterAspect )
-					{
-						// Found a match, return true
-						return true;
-					}
-
-					// Mark that there are filtered aspects
-					noFilters = false;
-				}
-			}
-
-			// Return true if no filters set
-			return noFilters;
+			// Allowed if there are no filters, or the aspect is filtered
+			return( this.filter.isEmpty() || this.filter.contains( aspect ) );
 		}
 
 		return false;
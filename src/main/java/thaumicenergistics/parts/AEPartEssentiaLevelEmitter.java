@@ -16,6 +16,7 @@ import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.api.ThEApi;
 import thaumicenergistics.container.ContainerPartEssentiaLevelEmitter;
 import thaumicenergistics.fluids.GaseousEssentia;
 import thaumicenergistics.gui.GuiEssentiaLevelEmitter;
@@ -30,25 +31,31 @@ import thaumicenergistics.texture.BlockTextureManager;
 import thaumicenergistics.util.EffectiveSide;
 import appeng.api.config.RedstoneMode;
 import appeng.api.config.SecurityPermissions;
-import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
 import appeng.api.networking.events.MENetworkChannelsChanged;
 import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.networking.security.BaseActionSource;
-import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.networking.storage.IStackWatcher;
+import appeng.api.networking.storage.IStackWatcherHost;
 import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.ITickManager;
+import appeng.api.networking.ticking.TickRateModulation;
+import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.parts.IPartCollisionHelper;
 import appeng.api.parts.IPartRenderHelper;
 import appeng.api.parts.PartItemStack;
-import appeng.api.storage.IMEMonitor;
-import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEFluidStack;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
 public class AEPartEssentiaLevelEmitter
 	extends AbstractAEPartBase
-	implements IAspectSlotPart, IMEMonitorHandlerReceiver<IAEFluidStack>
+	implements IAspectSlotPart, IStackWatcherHost, IGridTickable
 {
 	/**
 	 * How much AE power is required to keep the part active.
@@ -70,6 +77,11 @@ public class AEPartEssentiaLevelEmitter
 	 */
 	private static final String NBT_KEY_WANTED_AMOUNT = "wantedAmount";
 
+	/**
+	 * NBT key for the hysteresis band.
+	 */
+	private static final String NBT_KEY_HYSTERESIS = "hysteresis";
+
 	/**
 	 * NBT key for if we are emitting.
 	 */
@@ -95,6 +107,12 @@ public class AEPartEssentiaLevelEmitter
 	 */
 	private long wantedAmount = 0;
 
+	/**
+	 * How far past the threshold the amount must move before the emitter
+	 * turns off.
+	 */
+	private long hysteresis = 0;
+
 	/**
 	 * Current value
 	 */
@@ -105,6 +123,21 @@ public class AEPartEssentiaLevelEmitter
 	 */
 	private boolean isEmitting = false;
 
+	/**
+	 * Watches the ME network for changes to the filter aspect.
+	 */
+	private IStackWatcher essentiaWatcher;
+
+	/**
+	 * World tick the output last changed on.
+	 */
+	private long lastOutputChangeTick = Long.MIN_VALUE;
+
+	/**
+	 * True if an output change is waiting for the hold time to pass.
+	 */
+	private boolean isOutputChangePending = false;
+
 	/**
 	 * Creates the part
 	 */
@@ -115,10 +148,15 @@ public class AEPartEssentiaLevelEmitter
 
 	/**
 	 * Checks if the emitter is emitting a redstone signal.
+	 * The emitter turns on at the wanted amount, and only turns off once the
+	 * amount has moved past it by the emitter's hysteresis. In high signal
+	 * mode the hysteresis is limited so that an empty network always turns the
+	 * emitter off.
 	 * 
-	 * @return
+	 * @param ignoreHoldTime
+	 * If true the output can change even if it changed recently.
 	 */
-	private void checkEmitting()
+	private void checkEmitting( final boolean ignoreHoldTime )
 	{
 		boolean emitting = false;
 
@@ -129,16 +167,22 @@ public class AEPartEssentiaLevelEmitter
 			return;
 		}
 
+		// Get the hysteresis
+		long hysteresis = this.hysteresis;
+
 		switch ( this.redstoneMode )
 		{
 			case HIGH_SIGNAL:
+				// Keep the off threshold above zero, so the emitter can always turn off again
+				hysteresis = Math.min( hysteresis, Math.max( 0L, this.wantedAmount - 1L ) );
+
 				// Is the current amount more than the wanted amount?
-				emitting = ( this.currentAmount >= this.wantedAmount );
+				emitting = ( this.currentAmount >= ( this.isEmitting ? this.wantedAmount - hysteresis : this.wantedAmount ) );
 				break;
 
 			case LOW_SIGNAL:
 				// Is the current amount less than the wanted amount?
-				emitting = ( this.currentAmount <= this.wantedAmount );
+				emitting = ( this.currentAmount <= ( this.isEmitting ? this.wantedAmount + hysteresis : this.wantedAmount ) );
 				break;
 
 			case IGNORE:
@@ -149,8 +193,24 @@ public class AEPartEssentiaLevelEmitter
 
 		if( emitting != this.isEmitting )
 		{
+			long currentTick = this.getHostTile().getWorldObj().getTotalWorldTime();
+
+			// Has the output been held long enough?
+			if( !ignoreHoldTime &&
+							( currentTick < ( this.lastOutputChangeTick + ThEApi.instance().config().levelEmitterMinHoldTicks() ) ) )
+			{
+				// Check again once it has
+				if( !this.isOutputChangePending )
+				{
+					this.isOutputChangePending = true;
+					this.wakeTickManager();
+				}
+				return;
+			}
+
 			// Set the new state
 			this.isEmitting = emitting;
+			this.lastOutputChangeTick = currentTick;
 
 			// Update the neighbors
 			this.markAndNotify();
@@ -158,30 +218,31 @@ public class AEPartEssentiaLevelEmitter
 	}
 
 	/**
-	 * Ensures we are, or are not, registered with the
-	 * network monitor.
+	 * Updates the watcher to the filter aspect.
 	 */
-	private void checkRegistration()
+	private void configureWatcher()
 	{
-		// Get the storage grid
-		IStorageGrid storageGrid = this.getGridBlock().getStorageGrid();
-
-		// Ensure we got the grid
-		if( storageGrid == null )
+		// Is there a watcher?
+		if( this.essentiaWatcher == null )
 		{
 			return;
 		}
 
-		// Is the filter aspect null?
-		if( this.filterAspect == null )
-		{
-			// Unregister
-			storageGrid.getFluidInventory().removeListener( this );
-		}
-		else
+		// Clear any existing watched value
+		this.essentiaWatcher.clear();
+
+		// Is there a filter?
+		if( this.filterAspect != null )
 		{
-			// Register
-			storageGrid.getFluidInventory().addListener( this, this.getGridBlock().getGrid() );
+			// Get the gas for the filter aspect
+			GaseousEssentia aspectGas = GaseousEssentia.getGasFromAspect( this.filterAspect );
+
+			// Is there a fluid form of the aspect?
+			if( aspectGas != null )
+			{
+				// Watch the gas
+				this.essentiaWatcher.add( EssentiaConversionHelper.INSTANCE.createAEFluidStackInFluidUnits( aspectGas, 1 ) );
+			}
 		}
 	}
 
@@ -205,13 +266,48 @@ public class AEPartEssentiaLevelEmitter
 		hte.getWorldObj().notifyBlocksOfNeighborChange( hte.xCoord + side.offsetX, hte.yCoord + side.offsetX, hte.zCoord + side.offsetX, Blocks.air );
 	}
 
-	private void onMonitorUpdate( final IMEMonitor<IAEFluidStack> monitor )
+	/**
+	 * Sets the current amount in the network, of the aspect
+	 * we are watching/filtering.
+	 * 
+	 * @param amount
+	 */
+	private void setCurrentAmount( final long amount )
+	{
+		// Has the amount changed?
+		if( amount != this.currentAmount )
+		{
+			// Set the current amount
+			this.currentAmount = amount;
+
+			// Mark that we need to save
+			this.markForSave();
+
+			// Check if we should be emitting
+			this.checkEmitting( false );
+		}
+	}
+
+	/**
+	 * Reads the current amount of the filter aspect from the network.
+	 */
+	private void updateCurrentAmount()
 	{
 		// Do we have a filter?
 		if( this.filterAspect == null )
 		{
 			// Set the current amount to 0
 			this.setCurrentAmount( 0 );
+			return;
+		}
+
+		// Get the storage grid
+		IStorageGrid sGrid = this.getGridBlock().getStorageGrid();
+
+		// Did we get the grid?
+		if( sGrid == null )
+		{
+			return;
 		}
 
 		// Get the gas for the filter aspect
@@ -222,13 +318,14 @@ public class AEPartEssentiaLevelEmitter
 		{
 			// Set the current amount to 0
 			this.setCurrentAmount( 0 );
+			return;
 		}
 
 		// Convert to AE fluid stack
 		IAEFluidStack asGasStack = EssentiaConversionHelper.INSTANCE.createAEFluidStackInFluidUnits( aspectGas, 1 );
 
 		// Get how much is in the system
-		IAEFluidStack fluidStack = monitor.getStorageList().findPrecise( asGasStack );
+		IAEFluidStack fluidStack = sGrid.getFluidInventory().getStorageList().findPrecise( asGasStack );
 
 		// Was there any in the system?
 		if( fluidStack == null )
@@ -244,24 +341,16 @@ public class AEPartEssentiaLevelEmitter
 	}
 
 	/**
-	 * Sets the current amount in the network, of the aspect
-	 * we are watching/filtering.
-	 * 
-	 * @param amount
+	 * Lets the tick manager know the emitter has an output change waiting.
 	 */
-	private void setCurrentAmount( final long amount )
+	private void wakeTickManager()
 	{
-		// Has the amount changed?
-		if( amount != this.currentAmount )
-		{
-			// Set the current amount
-			this.currentAmount = amount;
+		IGridNode node = this.getActionableNode();
 
-			// Mark that we need to save
-			this.markForSave();
-
-			// Check if we should be emitting
-			this.checkEmitting();
+		// Does the emitter have a grid?
+		if( ( node != null ) && ( node.getGrid() != null ) )
+		{
+			( (ITickManager)node.getGrid().getCache( ITickManager.class ) ).wakeDevice( node );
 		}
 	}
 
@@ -282,9 +371,8 @@ public class AEPartEssentiaLevelEmitter
 	@MENetworkEventSubscribe
 	public void channelChanged( final MENetworkChannelsChanged channelEvent )
 	{
-		this.onListUpdate();
-		this.checkRegistration();
-		this.checkEmitting();
+		this.updateCurrentAmount();
+		this.checkEmitting( false );
 	}
 
 	/**
@@ -340,6 +428,16 @@ public class AEPartEssentiaLevelEmitter
 		return( this.isEmitting ? 7 : 0 );
 	}
 
+	/**
+	 * The emitter only ticks while an output change is waiting.
+	 */
+	@Override
+	public TickingRequest getTickingRequest( final IGridNode node )
+	{
+		int holdTicks = Math.max( 1, ThEApi.instance().config().levelEmitterMinHoldTicks() );
+		return new TickingRequest( holdTicks, holdTicks, true, false );
+	}
+
 	/**
 	 * Gets the emitter container
 	 */
@@ -367,24 +465,6 @@ public class AEPartEssentiaLevelEmitter
 		return this.isProvidingStrongPower();
 	}
 
-	/**
-	 * Called to see if we should continue monitoring on
-	 * a specific grid.
-	 */
-	@Override
-	public boolean isValid( final Object token )
-	{
-		// Get the grid
-		IGrid grid = this.getGridBlock().getGrid();
-
-		if( grid != null )
-		{
-			return grid == token;
-		}
-
-		return false;
-	}
-
 	/**
 	 * Called when a player has adjusted the amount wanted via
 	 * gui buttons.
@@ -397,6 +477,27 @@ public class AEPartEssentiaLevelEmitter
 		this.onClientSetWantedAmount( this.wantedAmount + adjustmentAmount, player );
 	}
 
+	/**
+	 * Called when a player has changed the hysteresis.
+	 * 
+	 * @param hysteresis
+	 * @param player
+	 */
+	public void onClientSetHysteresis( final long hysteresis, final EntityPlayer player )
+	{
+		// Set the hysteresis, bounds checked
+		this.hysteresis = Math.max( 0L, Math.min( hysteresis, 9999999999L ) );
+
+		// Mark that we need saving
+		this.markForSave();
+
+		// Send validated amount back to the client
+		new PacketClientEssentiaEmitter().createHysteresisUpdate( this.hysteresis, player ).sendPacketToPlayer();
+
+		// Check if we should be emitting
+		this.checkEmitting( true );
+	}
+
 	/**
 	 * Called when a player has changed the wanted amount
 	 * 
@@ -425,7 +526,7 @@ public class AEPartEssentiaLevelEmitter
 		new PacketClientEssentiaEmitter().createWantedAmountUpdate( this.wantedAmount, player ).sendPacketToPlayer();
 
 		// Check if we should be emitting
-		this.checkEmitting();
+		this.checkEmitting( true );
 	}
 
 	/**
@@ -451,7 +552,7 @@ public class AEPartEssentiaLevelEmitter
 		}
 
 		// Check if we should be emitting
-		this.checkEmitting();
+		this.checkEmitting( true );
 
 		// Send the new mode to the client
 		new PacketClientEssentiaEmitter().createRedstoneModeUpdate( this.redstoneMode, player ).sendPacketToPlayer();
@@ -466,7 +567,7 @@ public class AEPartEssentiaLevelEmitter
 	public void onClientUpdateRequest( final EntityPlayer player )
 	{
 		// Send the full update to the client
-		new PacketClientEssentiaEmitter().createFullUpdate( this.redstoneMode, this.wantedAmount, player ).sendPacketToPlayer();
+		new PacketClientEssentiaEmitter().createFullUpdate( this.redstoneMode, this.wantedAmount, this.hysteresis, player ).sendPacketToPlayer();
 
 		// Send the filter to the client
 		List<Aspect> filter = new ArrayList<Aspect>();
@@ -475,11 +576,11 @@ public class AEPartEssentiaLevelEmitter
 	}
 
 	/**
-	 * Called when a network event changes the state of
-	 * the storage grid.
+	 * Called by the watcher when the amount of the filter aspect changes.
 	 */
 	@Override
-	public void onListUpdate()
+	public void onStackChange( final IItemList o, final IAEStack fullStack, final IAEStack diffStack, final BaseActionSource src,
+								final StorageChannel chan )
 	{
 		// Ensure we have a filter
 		if( this.filterAspect == null )
@@ -487,47 +588,16 @@ public class AEPartEssentiaLevelEmitter
 			return;
 		}
 
-		// Get the storage grid
-		IStorageGrid sGrid = this.getGridBlock().getStorageGrid();
-
-		// Did we get the grid?
-		if( sGrid != null )
+		// Is there any in the system?
+		if( fullStack != null )
 		{
-			this.onMonitorUpdate( sGrid.getFluidInventory() );
-		}
-
-	}
-
-	/**
-	 * Called when a network event changes the amount
-	 * of something in the storage grid.
-	 */
-	@Override
-	public void postChange( final IBaseMonitor<IAEFluidStack> monitor, final Iterable<IAEFluidStack> changes, final BaseActionSource source )
-	{
-		// Ensure we have a filter
-		if( this.filterAspect == null )
-		{
-			return;
-		}
-
-		// Ensure there was a change
-		if( changes == null )
-		{
-			return;
+			// Set the current amount
+			this.setCurrentAmount( EssentiaConversionHelper.INSTANCE.convertFluidAmountToEssentiaAmount( fullStack.getStackSize() ) );
 		}
-
-		// Ensure one of the changes an essentia gas
-		for( IAEFluidStack change : changes )
+		else
 		{
-			if( ( change.getFluid() instanceof GaseousEssentia ) )
-			{
-				// Propagate the update
-				this.onMonitorUpdate( (IMEMonitor<IAEFluidStack>)monitor );
-
-				// Stop searching
-				break;
-			}
+			// None in system, set amount to 0
+			this.setCurrentAmount( 0 );
 		}
 	}
 
@@ -539,9 +609,8 @@ public class AEPartEssentiaLevelEmitter
 	@MENetworkEventSubscribe
 	public void powerChanged( final MENetworkPowerStatusChange powerEvent )
 	{
-		this.onListUpdate();
-		this.checkRegistration();
-		this.checkEmitting();
+		this.updateCurrentAmount();
+		this.checkEmitting( false );
 	}
 
 	/**
@@ -592,6 +661,12 @@ public class AEPartEssentiaLevelEmitter
 			this.wantedAmount = data.getLong( AEPartEssentiaLevelEmitter.NBT_KEY_WANTED_AMOUNT );
 		}
 
+		// Read the hysteresis
+		if( data.hasKey( AEPartEssentiaLevelEmitter.NBT_KEY_HYSTERESIS ) )
+		{
+			this.hysteresis = data.getLong( AEPartEssentiaLevelEmitter.NBT_KEY_HYSTERESIS );
+		}
+
 		// Read if emitting
 		if( data.hasKey( AEPartEssentiaLevelEmitter.NBT_KEY_IS_EMITTING ) )
 		{
@@ -693,10 +768,11 @@ public class AEPartEssentiaLevelEmitter
 			return;
 		}
 
-		this.checkRegistration();
+		// Watch the new aspect
+		this.configureWatcher();
 
 		// Check network amount
-		this.onListUpdate();
+		this.updateCurrentAmount();
 
 		// Send the aspect to the client
 		List<Aspect> filter = new ArrayList<Aspect>();
@@ -728,6 +804,34 @@ public class AEPartEssentiaLevelEmitter
 		return true;
 	}
 
+	/**
+	 * Called by the tick manager while an output change is waiting for the
+	 * hold time to pass.
+	 */
+	@Override
+	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
+	{
+		// Check the output again
+		this.isOutputChangePending = false;
+		this.checkEmitting( false );
+
+		// Sleep until the next change has to wait
+		return( this.isOutputChangePending ? TickRateModulation.SAME : TickRateModulation.SLEEP );
+	}
+
+	/**
+	 * Called when a new watcher is given to the emitter by the host.
+	 */
+	@Override
+	public void updateWatcher( final IStackWatcher newWatcher )
+	{
+		// Set the watcher
+		this.essentiaWatcher = newWatcher;
+
+		// Configure it
+		this.configureWatcher();
+	}
+
 	/**
 	 * Writes the state of the emitter to the tag
 	 */
@@ -756,6 +860,12 @@ public class AEPartEssentiaLevelEmitter
 			data.setLong( AEPartEssentiaLevelEmitter.NBT_KEY_WANTED_AMOUNT, this.wantedAmount );
 		}
 
+		// Write the hysteresis
+		if( this.hysteresis > 0 )
+		{
+			data.setLong( AEPartEssentiaLevelEmitter.NBT_KEY_HYSTERESIS, this.hysteresis );
+		}
+
 		// Write if emitting
 		if( saveType != PartItemStack.Wrench && this.isEmitting )
 		{
@@ -11,6 +11,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
+import thaumicenergistics.api.ThEApi;
 import thaumicenergistics.container.ContainerPartEssentiaStorageBus;
 import thaumicenergistics.gui.GuiEssentiaStorageBus;
 import thaumicenergistics.integration.tc.EssentiaItemContainerHelper;
@@ -29,6 +30,7 @@ import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.events.MENetworkCellArrayUpdate;
 import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.parts.IPartCollisionHelper;
@@ -60,6 +62,11 @@ public class AEPartEssentiaStorageBus
 	 */
 	private static final double IDLE_POWER_DRAIN = 1.0D;
 
+	/**
+	 * Fastest rate the bus will tick at.
+	 */
+	private static final int MIN_TICK_RATE = 20;
+
 	/**
 	 * NBT Keys
 	 */
@@ -106,6 +113,20 @@ public class AEPartEssentiaStorageBus
 		}
 	}
 
+	/**
+	 * Lets the tick manager know the bus should tick as soon as possible.
+	 */
+	private void alertTickManager()
+	{
+		IGridNode node = this.getActionableNode();
+
+		// Does the storage bus have a grid?
+		if( ( node != null ) && ( node.getGrid() != null ) )
+		{
+			( (ITickManager)node.getGrid().getCache( ITickManager.class ) ).alertDevice( node );
+		}
+	}
+
 	/**
 	 * Notifies all listening containers that the filter list changed.
 	 */
@@ -322,8 +343,9 @@ public class AEPartEssentiaStorageBus
 	@Override
 	public TickingRequest getTickingRequest( final IGridNode node )
 	{
-		// We would like a tick ever 20 MC ticks
-		return new TickingRequest( 20, 20, false, false );
+		// We would like a tick every 20 MC ticks, slowing down when nothing changes
+		return new TickingRequest( AEPartEssentiaStorageBus.MIN_TICK_RATE, Math.max( AEPartEssentiaStorageBus.MIN_TICK_RATE, ThEApi.instance()
+						.config().storageBusMaxTickRate() ), false, false );
 	}
 
 	/**
@@ -400,6 +422,9 @@ public class AEPartEssentiaStorageBus
 			{
 				// Send the update event
 				this.postGridUpdateEvent();
+
+				// Wake up the bus
+				this.alertTickManager();
 			}
 		}
 	}
@@ -598,10 +623,7 @@ public class AEPartEssentiaStorageBus
 	public TickRateModulation tickingRequest( final IGridNode node, final int TicksSinceLastCall )
 	{
 		// Update the handler.
-		this.handler.tickingRequest( node, TicksSinceLastCall );
-
-		// Keep chugging along
-		return TickRateModulation.SAME;
+		return this.handler.tickingRequest( node, TicksSinceLastCall );
 	}
 
 	/**
@@ -11,6 +11,7 @@ import net.minecraft.util.Vec3;
 import net.minecraftforge.fluids.FluidStack;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.IAspectContainer;
+import thaumicenergistics.aspect.AspectFilter;
 import thaumicenergistics.container.ContainerPartEssentiaIOBus;
 import thaumicenergistics.gui.GuiEssentiaIO;
 import thaumicenergistics.integration.tc.EssentiaConversionHelper;
@@ -62,12 +63,22 @@ public abstract class AbstractAEPartEssentiaIOBus
 
 	private final static int MAXIMUM_TRANSFER_PER_SECOND = 64;
 
+	/**
+	 * Number of acceleration cards needed to reach the accelerated tier.
+	 * In that tier each card adds more essentia, and the cap is raised.
+	 */
+	private final static int ACCELERATED_TIER_CARD_COUNT = 3;
+
+	private final static int ACCELERATED_ADDITIONAL_TRANSFER_PER_SECOND = 32;
+
+	private final static int ACCELERATED_MAXIMUM_TRANSFER_PER_SECOND = 256;
+
 	private final static int MINIMUM_TRANSFER_PER_SECOND = 1;
 
 	/**
 	 * Maximum number of filter slots.
 	 */
-	private final static int MAX_FILTER_SIZE = 9;
+	protected final static int MAX_FILTER_SIZE = 9;
 
 	private final static int BASE_SLOT_INDEX = 4;
 
@@ -108,6 +119,12 @@ public abstract class AbstractAEPartEssentiaIOBus
 
 	protected List<Aspect> filteredAspects = new ArrayList<Aspect>( AbstractAEPartEssentiaIOBus.MAX_FILTER_SIZE );
 
+	/**
+	 * Set of the aspects in the filter slots.
+	 * Updated whenever the slots change.
+	 */
+	protected final AspectFilter filter = new AspectFilter();
+
 	protected IAspectContainer facingContainer;
 
 	protected byte filterSize;
@@ -165,8 +182,25 @@ public abstract class AbstractAEPartEssentiaIOBus
 
 	}
 
+	private int getMaximumTransferAmount()
+	{
+		// Is the bus in the accelerated tier?
+		if( this.upgradeSpeedCount >= ACCELERATED_TIER_CARD_COUNT )
+		{
+			return ACCELERATED_MAXIMUM_TRANSFER_PER_SECOND;
+		}
+
+		return MAXIMUM_TRANSFER_PER_SECOND;
+	}
+
 	private int getTransferAmountPerSecond()
 	{
+		// Is the bus in the accelerated tier?
+		if( this.upgradeSpeedCount >= ACCELERATED_TIER_CARD_COUNT )
+		{
+			return BASE_TRANSFER_PER_SECOND + ( this.upgradeSpeedCount * ACCELERATED_ADDITIONAL_TRANSFER_PER_SECOND );
+		}
+
 		return BASE_TRANSFER_PER_SECOND + ( this.upgradeSpeedCount * ADDITIONAL_TRANSFER_PER_SECOND );
 	}
 
@@ -239,6 +273,17 @@ public abstract class AbstractAEPartEssentiaIOBus
 			System.arraycopy( AbstractAEPartEssentiaIOBus.TIER1_INDEXS, 0, this.availableFilterSlots, 1, 4 );
 			System.arraycopy( AbstractAEPartEssentiaIOBus.TIER2_INDEXS, 0, this.availableFilterSlots, 5, 4 );
 		}
+
+		// Slots may have been cleared
+		this.updateFilter();
+	}
+
+	/**
+	 * Rebuilds the filter set from the filter slots.
+	 */
+	private void updateFilter()
+	{
+		this.filter.set( this.filteredAspects );
 	}
 
 	/**
@@ -364,7 +409,7 @@ public abstract class AbstractAEPartEssentiaIOBus
 		if( itemAspect != null )
 		{
 			// Are we already filtering this aspect?
-			if( this.filteredAspects.contains( itemAspect ) )
+			if( this.filter.contains( itemAspect ) )
 			{
 				return true;
 			}
@@ -637,6 +682,7 @@ public abstract class AbstractAEPartEssentiaIOBus
 	public void onReceiveFilterList( final List<Aspect> filteredAspects )
 	{
 		this.filteredAspects = filteredAspects;
+		this.updateFilter();
 	}
 
 	/**
@@ -681,6 +727,9 @@ public abstract class AbstractAEPartEssentiaIOBus
 			}
 		}
 
+		// Update the filter set
+		this.updateFilter();
+
 		// Read upgrade inventory
 		if( data.hasKey( AbstractAEPartEssentiaIOBus.NBT_KEY_UPGRADE_INV ) )
 		{
@@ -709,6 +758,7 @@ public abstract class AbstractAEPartEssentiaIOBus
 	{
 		// Set the filter
 		this.filteredAspects.set( index, aspect );
+		this.updateFilter();
 
 		// Update the listeners
 		this.notifyListenersOfFilterAspectChange();
@@ -730,9 +780,9 @@ public abstract class AbstractAEPartEssentiaIOBus
 			{
 				transferAmount = MINIMUM_TRANSFER_PER_SECOND;
 			}
-			else if( transferAmount > MAXIMUM_TRANSFER_PER_SECOND )
+			else if( transferAmount > this.getMaximumTransferAmount() )
 			{
-				transferAmount = MAXIMUM_TRANSFER_PER_SECOND;
+				transferAmount = this.getMaximumTransferAmount();
 			}
 
 			if( this.doWork( transferAmount ) )
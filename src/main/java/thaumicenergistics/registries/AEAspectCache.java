@@ -0,0 +1,184 @@
+package thaumicenergistics.registries;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import thaumcraft.api.ThaumcraftApi;
+import thaumcraft.api.aspects.AspectList;
+import thaumicenergistics.util.ThELog;
+
+/**
+ * Stores the aspects derived for AE items so that they can be registered
+ * directly on the next launch, as long as the recipes and mods have not
+ * changed.
+ * 
+ * @author Nividica
+ * 
+ */
+class AEAspectCache
+{
+	/**
+	 * Version of the file format.
+	 * Files with a different version are ignored.
+	 */
+	private static final int CACHE_VERSION = 2;
+
+	/**
+	 * NBT keys.
+	 */
+	private static final String NBT_KEY_VERSION = "Version", NBT_KEY_FINGERPRINT = "Fingerprint", NBT_KEY_ENTRIES = "Entries",
+					NBT_KEY_ITEM = "Item", NBT_KEY_DAMAGE = "Damage";
+
+	/**
+	 * File the cache is stored in.
+	 */
+	private final File cacheFile;
+
+	/**
+	 * Items and the aspects they were given.
+	 */
+	private final List<ItemStack> stacks = new ArrayList<ItemStack>();
+	private final List<AspectList> aspects = new ArrayList<AspectList>();
+
+	public AEAspectCache( final File cacheFile )
+	{
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Adds an item and its aspects to the cache.
+	 * 
+	 * @param stack
+	 * @param itemAspects
+	 */
+	public void addEntry( final ItemStack stack, final AspectList itemAspects )
+	{
+		this.stacks.add( stack );
+		this.aspects.add( itemAspects );
+	}
+
+	/**
+	 * Loads the cache file.
+	 * 
+	 * @param fingerprint
+	 * @return True if the file was loaded and matches the fingerprint.
+	 */
+	public boolean load( final byte[] fingerprint )
+	{
+		this.stacks.clear();
+		this.aspects.clear();
+
+		// Is there a file to load?
+		if( ( fingerprint == null ) || !this.cacheFile.isFile() )
+		{
+			return false;
+		}
+
+		try
+		{
+			NBTTagCompound data = CompressedStreamTools.read( this.cacheFile );
+
+			// Does the file match?
+			if( ( data == null ) || ( data.getInteger( AEAspectCache.NBT_KEY_VERSION ) != AEAspectCache.CACHE_VERSION ) ||
+							!Arrays.equals( fingerprint, data.getByteArray( AEAspectCache.NBT_KEY_FINGERPRINT ) ) )
+			{
+				return false;
+			}
+
+			// Read the entries
+			NBTTagList entries = data.getTagList( AEAspectCache.NBT_KEY_ENTRIES, Constants.NBT.TAG_COMPOUND );
+			for( int index = 0; index < entries.tagCount(); ++index )
+			{
+				NBTTagCompound entry = entries.getCompoundTagAt( index );
+
+				// Get the item
+				Item item = (Item)Item.itemRegistry.getObject( entry.getString( AEAspectCache.NBT_KEY_ITEM ) );
+				if( item == null )
+				{
+					// Item no longer exists
+					this.stacks.clear();
+					this.aspects.clear();
+					return false;
+				}
+
+				// Get the aspects
+				AspectList itemAspects = new AspectList();
+				itemAspects.readFromNBT( entry );
+
+				this.addEntry( new ItemStack( item, 1, entry.getInteger( AEAspectCache.NBT_KEY_DAMAGE ) ), itemAspects );
+			}
+
+			return true;
+		}
+		catch( Exception e )
+		{
+			ThELog.warning( "Unable to read the AE aspect cache: %s", e.getMessage() );
+			this.stacks.clear();
+			this.aspects.clear();
+			return false;
+		}
+	}
+
+	/**
+	 * Registers the cached aspects with Thaumcraft.
+	 */
+	public void registerEntries()
+	{
+		for( int index = 0; index < this.stacks.size(); ++index )
+		{
+			ThaumcraftApi.registerObjectTag( this.stacks.get( index ), this.aspects.get( index ) );
+		}
+	}
+
+	/**
+	 * Writes the cache file.
+	 * 
+	 * @param fingerprint
+	 */
+	public void save( final byte[] fingerprint )
+	{
+		if( fingerprint == null )
+		{
+			return;
+		}
+
+		NBTTagCompound data = new NBTTagCompound();
+		data.setInteger( AEAspectCache.NBT_KEY_VERSION, AEAspectCache.CACHE_VERSION );
+		data.setByteArray( AEAspectCache.NBT_KEY_FINGERPRINT, fingerprint );
+
+		// Write the entries
+		NBTTagList entries = new NBTTagList();
+		for( int index = 0; index < this.stacks.size(); ++index )
+		{
+			ItemStack stack = this.stacks.get( index );
+			String itemName = Item.itemRegistry.getNameForObject( stack.getItem() );
+			if( itemName == null )
+			{
+				continue;
+			}
+
+			NBTTagCompound entry = new NBTTagCompound();
+			entry.setString( AEAspectCache.NBT_KEY_ITEM, itemName );
+			entry.setInteger( AEAspectCache.NBT_KEY_DAMAGE, stack.getItemDamage() );
+			this.aspects.get( index ).writeToNBT( entry );
+			entries.appendTag( entry );
+		}
+		data.setTag( AEAspectCache.NBT_KEY_ENTRIES, entries );
+
+		try
+		{
+			CompressedStreamTools.safeWrite( data, this.cacheFile );
+		}
+		catch( Exception e )
+		{
+			ThELog.warning( "Unable to write the AE aspect cache: %s", e.getMessage() );
+		}
+	}
+}
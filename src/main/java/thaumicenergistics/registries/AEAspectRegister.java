@@ -1,8 +1,17 @@
 package thaumicenergistics.registries;
 
+import java.io.File;
 import java.lang.reflect.Field;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
@@ -26,6 +35,9 @@ import appeng.api.util.AEColoredItemDefinition;
 import appeng.core.features.registries.entries.InscriberRecipe;
 import appeng.recipes.GroupIngredient;
 import appeng.recipes.Ingredient;
+import com.google.common.base.Charsets;
+import cpw.mods.fml.common.Loader;
+import cpw.mods.fml.common.ModContainer;
 
 /**
  * Gives items from AE2 aspects when scanned.
@@ -277,81 +289,17 @@ public class AEAspectRegister
 		 */
 		private void buildAspects()
 		{
-			// Grinder recipes
-			for( IGrinderEntry recipe : AEAspectRegister.this.GRINDER_RECIPES )
-			{
-				try
-				{
-					ItemStack recipeOutput = recipe.getOutput();
-
-					// Skip null items
-					if( recipeOutput == null || recipeOutput.getItem() == null )
-					{
-						continue;
-					}
-
-					if( this.areStacksEqualIgnoreAmount( recipeOutput, this.itemStack ) )
-					{
-						if( this.isRecipeUsable( recipe ) )
-						{
-							return;
-						}
-					}
-				}
-				catch( Exception e )
-				{
-				}
-			}
-
-			// Inscriber recipes
-			if( AEAspectRegister.this.INSCRIBER_RECIPES != null )
+			// Get the recipes that produce this item
+			List<Object> recipes = AEAspectRegister.this.RECIPES_BY_OUTPUT.get( AEAspectRegister.getItemKey( this.itemStack ) );
+			if( recipes == null )
 			{
-				for( IInscriberRecipe recipe : AEAspectRegister.this.INSCRIBER_RECIPES )
-				{
-					try
-					{
-						ItemStack recipeOutput = recipe.getOutput();
-
-						// Skip null items
-						if( recipeOutput == null || recipeOutput.getItem() == null )
-						{
-							continue;
-						}
-
-						if( this.areStacksEqualIgnoreAmount( recipeOutput, this.itemStack ) )
-						{
-							if( this.isRecipeUsable( recipe ) )
-							{
-								return;
-							}
-						}
-					}
-					catch( Exception e )
-					{
-					}
-				}
+				return;
 			}
 
-			// Regular crafting recipes
-			for( IRecipe recipe : AEAspectRegister.this.NORMAL_RECIPES )
+			for( Object recipe : recipes )
 			{
 				try
 				{
-					// Get the recipe's result
-					ItemStack recipeOutput = recipe.getRecipeOutput();
-
-					// Skip null items
-					if( recipeOutput == null || recipeOutput.getItem() == null )
-					{
-						continue;
-					}
-
-					// Is this what we are looking for?
-					if( !this.areStacksEqualIgnoreAmount( recipeOutput, this.itemStack ) )
-					{
-						continue;
-					}
-
 					if( this.isRecipeUsable( recipe ) )
 					{
 						return;
@@ -360,7 +308,6 @@ public class AEAspectRegister
 				catch( Exception e )
 				{
 				}
-
 			}
 		}
 
@@ -420,141 +367,6 @@ public class AEAspectRegister
 			}
 		}
 
-		/**
-		 * Builds a list of ingredients for this item.
-		 */
-		private void getIngredientsForRecipe()
-		{
-			Object[] ingredientObjects = null;
-
-			// What kind of recipe is this?
-			if( this.recipe instanceof appeng.recipes.game.ShapedRecipe )
-			{
-				// Get ingredients
-				ingredientObjects = ( (appeng.recipes.game.ShapedRecipe)this.recipe ).getInput();
-			}
-
-			else if( this.recipe instanceof appeng.recipes.game.ShapelessRecipe )
-			{
-				// Get ingredients
-				ingredientObjects = ( (appeng.recipes.game.ShapelessRecipe)this.recipe ).getInput().toArray();
-			}
-
-			else if( this.recipe instanceof IGrinderEntry )
-			{
-				// Get ingredient
-				ingredientObjects = new Object[] { ( (IGrinderEntry)this.recipe ).getInput() };
-
-				// Add a bonus aspect for grinding
-				this.bonusAspects.add( Aspect.ENTROPY, 1 );
-			}
-
-			else if( this.recipe instanceof InscriberRecipe )
-			{
-				// Cast
-				InscriberRecipe iRec = (InscriberRecipe)this.recipe;
-
-				// Get inputs
-				List<ItemStack> inputs = new ArrayList<ItemStack>( iRec.getInputs() );
-
-				// Is there a top?
-				if( iRec.getTopOptional().isPresent() )
-				{
-					// Add top
-					inputs.add( iRec.getTopOptional().get() );
-				}
-
-				// Is there a bottom?
-				if( iRec.getBottomOptional().isPresent() )
-				{
-					// Add bottom
-					inputs.add( iRec.getBottomOptional().get() );
-				}
-
-				// Create array
-				ingredientObjects = inputs.toArray( new Object[inputs.size()] );
-
-			}
-
-			else if( this.recipe instanceof net.minecraft.item.crafting.ShapedRecipes )
-			{
-				// Get ingredients
-				ingredientObjects = ( (net.minecraft.item.crafting.ShapedRecipes)this.recipe ).recipeItems;
-			}
-
-			else if( this.recipe instanceof net.minecraft.item.crafting.ShapelessRecipes )
-			{
-				// Get ingredients
-				ingredientObjects = ( (net.minecraft.item.crafting.ShapelessRecipes)this.recipe ).recipeItems.toArray();
-			}
-
-			// Did we get the object list?
-			if( ingredientObjects != null )
-			{
-				ItemStack currentIngredientStack;
-				List<ItemStack> ingredientStackList = new ArrayList<ItemStack>();
-
-				// Get the itemstack of each one
-				for( int i = 0; i < ingredientObjects.length; i++ )
-				{
-					// Get the ingredient
-					Object ing = ingredientObjects[i];
-
-					// What is the ingredient?
-					if( ing == null )
-					{
-						continue;
-					}
-
-					// Clear the stack
-					currentIngredientStack = null;
-					try
-					{
-						if( ing instanceof Ingredient )
-						{
-							if( ( (Ingredient)ing ).nameSpace.equalsIgnoreCase( "oreDictionary" ) )
-							{
-								currentIngredientStack = ( (Ingredient)ing ).getItemStackSet()[0];
-							}
-							else
-							{
-								currentIngredientStack = ( (Ingredient)ing ).getItemStack();
-							}
-						}
-						else if( ing instanceof GroupIngredient )
-						{
-							currentIngredientStack = ( (GroupIngredient)ing ).getItemStackSet()[0];
-						}
-						else if( ing instanceof ItemStack )
-						{
-							currentIngredientStack = (ItemStack)ing;
-						}
-
-					}
-					catch( Exception e )
-					{
-					}
-
-					// Skip null stacks
-					if( currentIngredientStack == null )
-					{
-						continue;
-					}
-
-					// Add to the list
-					ingredientStackList.add( currentIngredientStack );
-				}
-
-				// Was anything added?
-				if( ingredientStackList.size() > 0 )
-				{
-					// Convert to array
-					this.ingredients = new ItemStack[ingredientStackList.size()];
-					this.ingredients = ingredientStackList.toArray( this.ingredients );
-				}
-			}
-		}
-
 		/**
 		 * Determines if the recipe is valid, and aspects
 		 * can be derived from it.
@@ -568,7 +380,18 @@ public class AEAspectRegister
 			this.recipe = recipe;
 
 			// Get the ingredients
-			this.getIngredientsForRecipe();
+			ItemStack[] recipeIngredients = AEAspectRegister.this.getIngredientsForRecipe( recipe );
+			if( recipeIngredients != null )
+			{
+				this.ingredients = recipeIngredients;
+			}
+
+			// Grinder recipe?
+			if( recipe instanceof IGrinderEntry )
+			{
+				// Add a bonus aspect for grinding
+				this.bonusAspects.add( Aspect.ENTROPY, 1 );
+			}
 
 			// Did we get the ingredients?
 			if( this.ingredients != null )
@@ -643,6 +466,50 @@ public class AEAspectRegister
 			return false;
 		}
 
+		/**
+		 * Gets the AE items used to craft this item.
+		 * 
+		 * @return
+		 */
+		public List<AEItemInfo> getDependencies()
+		{
+			List<AEItemInfo> dependencies = new ArrayList<AEItemInfo>();
+
+			// Get the recipes that produce this item
+			List<Object> recipes = AEAspectRegister.this.RECIPES_BY_OUTPUT.get( AEAspectRegister.getItemKey( this.itemStack ) );
+			if( recipes == null )
+			{
+				return dependencies;
+			}
+
+			for( Object recipe : recipes )
+			{
+				try
+				{
+					ItemStack[] recipeIngredients = AEAspectRegister.this.getIngredientsForRecipe( recipe );
+					if( recipeIngredients == null )
+					{
+						continue;
+					}
+
+					for( ItemStack stack : recipeIngredients )
+					{
+						// Is the ingredient an AE item?
+						AEItemInfo ingInfo = AEAspectRegister.this.getInfoForDefinitionOrStack( stack );
+						if( ( ingInfo != null ) && ( ingInfo != this ) )
+						{
+							dependencies.add( ingInfo );
+						}
+					}
+				}
+				catch( Exception e )
+				{
+				}
+			}
+
+			return dependencies;
+		}
+
 		/**
 		 * Builds the final aspect list used for this item.
 		 * 
@@ -781,6 +648,17 @@ public class AEAspectRegister
 	 */
 	public static final AEAspectRegister INSTANCE = new AEAspectRegister();
 
+	/**
+	 * Name of the file, in the config directory, the derived aspects are
+	 * cached in.
+	 */
+	private static final String CACHE_FILE_NAME = "thaumicenergistics_aspects.dat";
+
+	/**
+	 * Domain of the AE items.
+	 */
+	private static final String AE_ITEM_DOMAIN = "appliedenergistics2:";
+
 	/**
 	 * Common aspect amounts
 	 */
@@ -789,19 +667,19 @@ public class AEAspectRegister
 	private static int FLUIX_CHARGE = 6;
 
 	/**
-	 * All discovered items from AE.
+	 * All discovered items from AE, in discovery order.
 	 */
 	private List<AEItemInfo> ALL_ITEMS = new ArrayList<AEItemInfo>();
 
 	/**
-	 * Items that have not yet been added.
+	 * Item key -> discovered item.
 	 */
-	private List<AEItemInfo> ITEMS_TO_ADD = new ArrayList<AEItemInfo>();
+	private Map<Long, AEItemInfo> ITEM_INDEX = new HashMap<Long, AEItemInfo>();
 
 	/**
-	 * Items that have been added.
+	 * Keys of the items that have been added.
 	 */
-	private List<AEItemInfo> ITEMS_REGISTERED = new ArrayList<AEItemInfo>();
+	private Set<Long> ITEMS_REGISTERED = new HashSet<Long>();
 
 	/**
 	 * Used to prevent stack overflows when two items depend on each other.
@@ -820,6 +698,16 @@ public class AEAspectRegister
 	List<IGrinderEntry> GRINDER_RECIPES;
 	List<IInscriberRecipe> INSCRIBER_RECIPES;
 
+	/**
+	 * Item key -> recipes that produce the item.
+	 */
+	Map<Long, List<Object>> RECIPES_BY_OUTPUT;
+
+	/**
+	 * Records the aspects given to each item.
+	 */
+	AEAspectCache CACHE;
+
 	/**
 	 * Private constructor.
 	 */
@@ -828,6 +716,329 @@ public class AEAspectRegister
 
 	}
 
+	/**
+	 * Adds the Thaumcraft aspects of a non-AE ingredient to the fingerprint,
+	 * so that changes made to them by other mods or configs are seen.
+	 * 
+	 * @param digest
+	 * @param stack
+	 */
+	private static void addAspectsToFingerprint( final MessageDigest digest, final ItemStack stack )
+	{
+		if( ( stack == null ) || ( stack.getItem() == null ) )
+		{
+			return;
+		}
+
+		// Skip AE items, their aspects come from this register
+		String itemName = Item.itemRegistry.getNameForObject( stack.getItem() );
+		if( ( itemName != null ) && itemName.startsWith( AEAspectRegister.AE_ITEM_DOMAIN ) )
+		{
+			return;
+		}
+
+		// Get the aspects
+		AspectList stackAspects = ThaumcraftApiHelper.getObjectAspects( stack );
+		if( stackAspects == null )
+		{
+			return;
+		}
+
+		// Add each aspect, in a stable order
+		for( Aspect aspect : stackAspects.getAspectsSorted() )
+		{
+			if( aspect != null )
+			{
+				digest.update( ( aspect.getTag() + "=" + stackAspects.getAmount( aspect ) ).getBytes( Charsets.UTF_8 ) );
+			}
+		}
+	}
+
+	/**
+	 * Adds the item, damage, and size of the stack to the fingerprint.
+	 * 
+	 * @param digest
+	 * @param stack
+	 */
+	private static void addStackToFingerprint( final MessageDigest digest, final ItemStack stack )
+	{
+		String stackID = "null";
+		if( ( stack != null ) && ( stack.getItem() != null ) )
+		{
+			stackID = Item.itemRegistry.getNameForObject( stack.getItem() ) + "@" + stack.getItemDamage() + "x" + stack.stackSize;
+		}
+		digest.update( stackID.getBytes( Charsets.UTF_8 ) );
+	}
+
+	/**
+	 * Gets the key used to index the item.
+	 * Damage is only part of the key when the item has subtypes, matching
+	 * {@link AEItemInfo#areStacksEqualIgnoreAmount}.
+	 * 
+	 * @param stack
+	 * @return Key, or -1 if the stack is empty.
+	 */
+	private static long getItemKey( final ItemStack stack )
+	{
+		if( ( stack == null ) || ( stack.getItem() == null ) )
+		{
+			return -1;
+		}
+
+		long key = ( (long)Item.getIdFromItem( stack.getItem() ) ) << 32;
+		if( stack.getHasSubtypes() )
+		{
+			key |= ( stack.getItemDamage() & 0xFFFFFFFFL );
+		}
+
+		return key;
+	}
+
+	/**
+	 * Adds the recipe, its output, and its ingredients to the fingerprint.
+	 * 
+	 * @param digest
+	 * @param recipe
+	 * @param recipeOutput
+	 */
+	private void addRecipeToFingerprint( final MessageDigest digest, final Object recipe, final ItemStack recipeOutput )
+	{
+		digest.update( recipe.getClass().getName().getBytes( Charsets.UTF_8 ) );
+		AEAspectRegister.addStackToFingerprint( digest, recipeOutput );
+
+		ItemStack[] recipeIngredients = this.getIngredientsForRecipe( recipe );
+		if( recipeIngredients != null )
+		{
+			for( ItemStack stack : recipeIngredients )
+			{
+				AEAspectRegister.addStackToFingerprint( digest, stack );
+				AEAspectRegister.addAspectsToFingerprint( digest, stack );
+			}
+		}
+	}
+
+	/**
+	 * Adds the recipe to the output index.
+	 * 
+	 * @param recipeOutput
+	 * @param recipe
+	 */
+	private void addToRecipeIndex( final ItemStack recipeOutput, final Object recipe )
+	{
+		// Skip null items
+		long key = AEAspectRegister.getItemKey( recipeOutput );
+		if( key == -1 )
+		{
+			return;
+		}
+
+		List<Object> recipes = this.RECIPES_BY_OUTPUT.get( key );
+		if( recipes == null )
+		{
+			recipes = new ArrayList<Object>();
+			this.RECIPES_BY_OUTPUT.put( key, recipes );
+		}
+		recipes.add( recipe );
+	}
+
+	/**
+	 * Adds the item to the registration order, after the items it depends on.
+	 * 
+	 * @param itemInfo
+	 * @param order
+	 * @param visited
+	 */
+	private void addToRegistrationOrder( final AEItemInfo itemInfo, final List<AEItemInfo> order, final Set<AEItemInfo> visited )
+	{
+		// Already ordered, or part of a cycle?
+		if( !visited.add( itemInfo ) )
+		{
+			return;
+		}
+
+		// Order the dependencies first
+		for( AEItemInfo dependency : itemInfo.getDependencies() )
+		{
+			this.addToRegistrationOrder( dependency, order, visited );
+		}
+
+		order.add( itemInfo );
+	}
+
+	/**
+	 * Computes a fingerprint of the loaded mods and of the recipes that
+	 * produce AE items.
+	 * 
+	 * @return Fingerprint, or null if one could not be computed.
+	 */
+	private byte[] computeFingerprint()
+	{
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+
+			// Mods
+			for( ModContainer mod : Loader.instance().getActiveModList() )
+			{
+				digest.update( ( mod.getModId() + "@" + mod.getVersion() ).getBytes( Charsets.UTF_8 ) );
+			}
+
+			// Grinder recipes
+			for( IGrinderEntry recipe : this.GRINDER_RECIPES )
+			{
+				this.addRecipeToFingerprint( digest, recipe, recipe.getOutput() );
+			}
+
+			// Inscriber recipes
+			if( this.INSCRIBER_RECIPES != null )
+			{
+				for( IInscriberRecipe recipe : this.INSCRIBER_RECIPES )
+				{
+					this.addRecipeToFingerprint( digest, recipe, recipe.getOutput() );
+				}
+			}
+
+			// Regular crafting recipes that produce AE items
+			for( IRecipe recipe : this.NORMAL_RECIPES )
+			{
+				ItemStack recipeOutput = recipe.getRecipeOutput();
+				if( ( recipeOutput == null ) || ( recipeOutput.getItem() == null ) )
+				{
+					continue;
+				}
+
+				String itemName = Item.itemRegistry.getNameForObject( recipeOutput.getItem() );
+				if( ( itemName != null ) && itemName.startsWith( AEAspectRegister.AE_ITEM_DOMAIN ) )
+				{
+					this.addRecipeToFingerprint( digest, recipe, recipeOutput );
+				}
+			}
+
+			return digest.digest();
+		}
+		catch( Exception e )
+		{
+			ThELog.warning( "Unable to fingerprint the AE recipes, aspect cache disabled: %s", e.getMessage() );
+			return null;
+		}
+	}
+
+	/**
+	 * Derives aspects for the AE items from their recipes, and registers them.
+	 */
+	private void deriveAspects()
+	{
+		// Index the recipes by output
+		long phaseStartTime = ThELog.beginSection( "AE Scanables: Recipe index" );
+		this.indexRecipes();
+		ThELog.endSection( "AE Scanables: Recipe index", phaseStartTime );
+
+		// Build the list of items to give aspects to
+		phaseStartTime = ThELog.beginSection( "AE Scanables: Item discovery" );
+		this.getItemsFromAERegistryClass( AEApi.instance().definitions().materials() );
+		this.getItemsFromAERegistryClass( AEApi.instance().definitions().items() );
+		this.getItemsFromAERegistryClass( AEApi.instance().definitions().blocks() );
+		this.getItemsFromAERegistryClass( AEApi.instance().definitions().parts() );
+
+		// Order the items by their dependencies
+		List<AEItemInfo> registrationOrder = this.getRegistrationOrder();
+		ThELog.endSection( "AE Scanables: Item discovery", phaseStartTime );
+
+		// Give base AE items & materials aspects
+		phaseStartTime = ThELog.beginSection( "AE Scanables: Base items" );
+		this.registerBase();
+		ThELog.endSection( "AE Scanables: Base items", phaseStartTime );
+
+		// Register the remaining items, dependencies first
+		phaseStartTime = ThELog.beginSection( "AE Scanables: Derived items" );
+		for( AEItemInfo itemInfo : registrationOrder )
+		{
+			if( !this.isRegistered( itemInfo ) )
+			{
+				itemInfo.registerItem( 1 );
+			}
+		}
+
+		// Items in a dependency cycle may only be derivable now that the rest of the cycle is registered.
+		Set<AEItemInfo> retried = Collections.newSetFromMap( new IdentityHashMap<AEItemInfo, Boolean>() );
+		List<AEItemInfo> retryItems = new ArrayList<AEItemInfo>( this.UNREGISTERABLE );
+		this.UNREGISTERABLE.clear();
+		for( AEItemInfo itemInfo : retryItems )
+		{
+			if( !this.isRegistered( itemInfo ) && retried.add( itemInfo ) )
+			{
+				itemInfo.registerItem( 2 );
+			}
+		}
+		ThELog.endSection( "AE Scanables: Derived items", phaseStartTime );
+	}
+
+	/**
+	 * Orders the discovered items so that each item comes after the AE items
+	 * used to craft it.
+	 * 
+	 * @return
+	 */
+	private List<AEItemInfo> getRegistrationOrder()
+	{
+		List<AEItemInfo> order = new ArrayList<AEItemInfo>( this.ALL_ITEMS.size() );
+		Set<AEItemInfo> visited = Collections.newSetFromMap( new IdentityHashMap<AEItemInfo, Boolean>() );
+
+		for( AEItemInfo itemInfo : this.ALL_ITEMS )
+		{
+			this.addToRegistrationOrder( itemInfo, order, visited );
+		}
+
+		return order;
+	}
+
+	/**
+	 * Indexes the grinder, inscriber, and crafting recipes by their output.
+	 */
+	private void indexRecipes()
+	{
+		this.RECIPES_BY_OUTPUT = new HashMap<Long, List<Object>>();
+
+		// Grinder recipes
+		for( IGrinderEntry recipe : this.GRINDER_RECIPES )
+		{
+			try
+			{
+				this.addToRecipeIndex( recipe.getOutput(), recipe );
+			}
+			catch( Exception e )
+			{
+			}
+		}
+
+		// Inscriber recipes
+		if( this.INSCRIBER_RECIPES != null )
+		{
+			for( IInscriberRecipe recipe : this.INSCRIBER_RECIPES )
+			{
+				try
+				{
+					this.addToRecipeIndex( recipe.getOutput(), recipe );
+				}
+				catch( Exception e )
+				{
+				}
+			}
+		}
+
+		// Regular crafting recipes
+		for( IRecipe recipe : this.NORMAL_RECIPES )
+		{
+			try
+			{
+				this.addToRecipeIndex( recipe.getRecipeOutput(), recipe );
+			}
+			catch( Exception e )
+			{
+			}
+		}
+	}
+
 	/**
 	 * Registers the base items from AE. Those without a usable crafting
 	 * ancestry, world crafted, or multi-part.
@@ -1024,7 +1235,14 @@ public class AEAspectRegister
 		// Register each color
 		for( AEColor color : colors )
 		{
-			ThaumcraftApi.registerObjectTag( cableSet.stack( color, 1 ), aspects );
+			ItemStack cable = cableSet.stack( color, 1 );
+			if( cable != null )
+			{
+				ThaumcraftApi.registerObjectTag( cable, aspects );
+
+				// Add to the cache
+				this.CACHE.addEntry( cable, aspects );
+			}
 		}
 	}
 
@@ -1126,8 +1344,11 @@ public class AEAspectRegister
 
 	/**
 	 * Gives AppliedEnergistics blocks and items Thaumcraft aspects.
+	 * 
+	 * @param configDirectory
+	 * Directory the aspect cache is stored in.
 	 */
-	public void registerAEAspects()
+	public void registerAEAspects( final File configDirectory )
 	{
 		// Log
 		long sectionStartTime = ThELog.beginSection( "AE Scanables" );
@@ -1139,37 +1360,26 @@ public class AEAspectRegister
 		// Get the inscriber recipes
 		this.INSCRIBER_RECIPES = AEApi.instance().registries().inscriber().getRecipes();
 
-		// Build the list of items to give aspects to
-		this.getItemsFromAERegistryClass( AEApi.instance().definitions().materials() );
-		this.getItemsFromAERegistryClass( AEApi.instance().definitions().items() );
-		this.getItemsFromAERegistryClass( AEApi.instance().definitions().blocks() );
-		this.getItemsFromAERegistryClass( AEApi.instance().definitions().parts() );
-
-		// Give base AE items & materials aspects
-		this.registerBase();
+		// Fingerprint the recipes and mods
+		long phaseStartTime = ThELog.beginSection( "AE Scanables: Fingerprint" );
+		byte[] fingerprint = this.computeFingerprint();
+		ThELog.endSection( "AE Scanables: Fingerprint", phaseStartTime );
 
-		// Register the remaining items
-		for( int pass = 1; pass <= 2; pass++ )
+		// Can the cached aspects be used?
+		this.CACHE = new AEAspectCache( new File( configDirectory, AEAspectRegister.CACHE_FILE_NAME ) );
+		if( this.CACHE.load( fingerprint ) )
 		{
-			while( this.ITEMS_TO_ADD.size() > 0 )
-			{
-				// Get the next item
-				AEItemInfo itemInfo = this.ITEMS_TO_ADD.get( 0 );
-
-				// Remove
-				this.ITEMS_TO_ADD.remove( 0 );
-
-				// Register it
-				itemInfo.registerItem( pass );
-
-			}
+			// Register the cached aspects
+			this.CACHE.registerEntries();
+			ThELog.info( "Loaded AE aspects from cache." );
+		}
+		else
+		{
+			// Derive the aspects
+			this.deriveAspects();
 
-			// Upon completion of pass 1, move all unregisterable items back into the items to add, and try again. 
-			if( pass == 1 )
-			{
-				this.ITEMS_TO_ADD.addAll( this.UNREGISTERABLE );
-				this.UNREGISTERABLE.clear();
-			}
+			// Save them for next time
+			this.CACHE.save( fingerprint );
 		}
 
 		// Finally register my cells
@@ -1178,11 +1388,14 @@ public class AEAspectRegister
 		// Cleanup
 		this.NORMAL_RECIPES = null;
 		this.GRINDER_RECIPES = null;
+		this.INSCRIBER_RECIPES = null;
+		this.RECIPES_BY_OUTPUT = null;
 		this.ALL_ITEMS = null;
+		this.ITEM_INDEX = null;
 		this.ITEMS_REGISTERED = null;
-		this.ITEMS_TO_ADD = null;
 		this.DEPENDENCY_CHAIN = null;
 		this.UNREGISTERABLE = null;
+		this.CACHE = null;
 
 		// Log
 		ThELog.endSection( "AE Scanables", sectionStartTime );
@@ -1196,27 +1409,166 @@ public class AEAspectRegister
 	 */
 	AEItemInfo getInfoForDefinitionOrStack( final Object itemDefinitionOrStack )
 	{
-		AEItemInfo itemInfo = null;
+		ItemStack stack = null;
+
+		// Get the stack
+		if( itemDefinitionOrStack instanceof AEItemInfo )
+		{
+			stack = ( (AEItemInfo)itemDefinitionOrStack ).itemStack;
+		}
+		else if( itemDefinitionOrStack instanceof ItemStack )
+		{
+			stack = (ItemStack)itemDefinitionOrStack;
+		}
+		else if( itemDefinitionOrStack instanceof IItemDefinition )
+		{
+			stack = ( (IItemDefinition)itemDefinitionOrStack ).maybeStack( 1 ).orNull();
+		}
+
+		// Look it up
+		long key = AEAspectRegister.getItemKey( stack );
+		if( key == -1 )
+		{
+			return null;
+		}
+
+		return this.ITEM_INDEX.get( key );
+	}
+
+	/**
+	 * Builds a list of ingredients for the recipe.
+	 * 
+	 * @param recipe
+	 * @return Ingredients, or null if none could be found.
+	 */
+	ItemStack[] getIngredientsForRecipe( final Object recipe )
+	{
+		Object[] ingredientObjects = null;
 
-		// Get the index from the list of items to add
-		int index = -1;
-		for( int i = 0; i < this.ALL_ITEMS.size(); i++ )
+		// What kind of recipe is this?
+		if( recipe instanceof appeng.recipes.game.ShapedRecipe )
 		{
-			// Match?
-			if( this.ALL_ITEMS.get( i ).equals( itemDefinitionOrStack ) )
+			// Get ingredients
+			ingredientObjects = ( (appeng.recipes.game.ShapedRecipe)recipe ).getInput();
+		}
+
+		else if( recipe instanceof appeng.recipes.game.ShapelessRecipe )
+		{
+			// Get ingredients
+			ingredientObjects = ( (appeng.recipes.game.ShapelessRecipe)recipe ).getInput().toArray();
+		}
+
+		else if( recipe instanceof IGrinderEntry )
+		{
+			// Get ingredient
+			ingredientObjects = new Object[] { ( (IGrinderEntry)recipe ).getInput() };
+		}
+
+		else if( recipe instanceof InscriberRecipe )
+		{
+			// Cast
+			InscriberRecipe iRec = (InscriberRecipe)recipe;
+
+			// Get inputs
+			List<ItemStack> inputs = new ArrayList<ItemStack>( iRec.getInputs() );
+
+			// Is there a top?
+			if( iRec.getTopOptional().isPresent() )
+			{
+				// Add top
+				inputs.add( iRec.getTopOptional().get() );
+			}
+
+			// Is there a bottom?
+			if( iRec.getBottomOptional().isPresent() )
 			{
-				index = i;
-				break;
+				// Add bottom
+				inputs.add( iRec.getBottomOptional().get() );
 			}
+
+			// Create array
+			ingredientObjects = inputs.toArray( new Object[inputs.size()] );
+
 		}
 
-		// Found match?
-		if( index >= 0 )
+		else if( recipe instanceof net.minecraft.item.crafting.ShapedRecipes )
 		{
-			itemInfo = this.ALL_ITEMS.get( index );
+			// Get ingredients
+			ingredientObjects = ( (net.minecraft.item.crafting.ShapedRecipes)recipe ).recipeItems;
 		}
 
-		return itemInfo;
+		else if( recipe instanceof net.minecraft.item.crafting.ShapelessRecipes )
+		{
+			// Get ingredients
+			ingredientObjects = ( (net.minecraft.item.crafting.ShapelessRecipes)recipe ).recipeItems.toArray();
+		}
+
+		// Did we get the object list?
+		if( ingredientObjects != null )
+		{
+			ItemStack currentIngredientStack;
+			List<ItemStack> ingredientStackList = new ArrayList<ItemStack>();
+
+			// Get the itemstack of each one
+			for( int i = 0; i < ingredientObjects.length; i++ )
+			{
+				// Get the ingredient
+				Object ing = ingredientObjects[i];
+
+				// What is the ingredient?
+				if( ing == null )
+				{
+					continue;
+				}
+
+				// Clear the stack
+				currentIngredientStack = null;
+				try
+				{
+					if( ing instanceof Ingredient )
+					{
+						if( ( (Ingredient)ing ).nameSpace.equalsIgnoreCase( "oreDictionary" ) )
+						{
+							currentIngredientStack = ( (Ingredient)ing ).getItemStackSet()[0];
+						}
+						else
+						{
+							currentIngredientStack = ( (Ingredient)ing ).getItemStack();
+						}
+					}
+					else if( ing instanceof GroupIngredient )
+					{
+						currentIngredientStack = ( (GroupIngredient)ing ).getItemStackSet()[0];
+					}
+					else if( ing instanceof ItemStack )
+					{
+						currentIngredientStack = (ItemStack)ing;
+					}
+
+				}
+				catch( Exception e )
+				{
+				}
+
+				// Skip null stacks
+				if( currentIngredientStack == null )
+				{
+					continue;
+				}
+
+				// Add to the list
+				ingredientStackList.add( currentIngredientStack );
+			}
+
+			// Was anything added?
+			if( ingredientStackList.size() > 0 )
+			{
+				// Convert to array
+				return ingredientStackList.toArray( new ItemStack[ingredientStackList.size()] );
+			}
+		}
+
+		return null;
 	}
 
 	/**
@@ -1249,16 +1601,22 @@ public class AEAspectRegister
 					itemInfo = new AEItemInfo( (IItemDefinition)fObj );
 
 					// Has the stack already been registered?
-					if( this.ITEMS_REGISTERED.contains( itemInfo ) )
+					if( this.isRegistered( itemInfo ) )
 					{
 						// Skip it
 						continue;
 					}
 
 					// Add to the list
-					this.ITEMS_TO_ADD.add( itemInfo );
 					this.ALL_ITEMS.add( itemInfo );
 
+					// Index it, the first item discovered for a stack wins
+					long key = AEAspectRegister.getItemKey( itemInfo.itemStack );
+					if( ( key != -1 ) && !this.ITEM_INDEX.containsKey( key ) )
+					{
+						this.ITEM_INDEX.put( key, itemInfo );
+					}
+
 				}
 			}
 			catch( Exception e )
@@ -1268,6 +1626,18 @@ public class AEAspectRegister
 		}
 	}
 
+	/**
+	 * Returns true if the item has been registered with thaumcraft.
+	 * 
+	 * @param itemInfo
+	 * @return
+	 */
+	boolean isRegistered( final AEItemInfo itemInfo )
+	{
+		long key = AEAspectRegister.getItemKey( itemInfo.itemStack );
+		return ( key != -1 ) && this.ITEMS_REGISTERED.contains( key );
+	}
+
 	/**
 	 * Registers the item info with thaumcraft.
 	 * 
@@ -1276,17 +1646,16 @@ public class AEAspectRegister
 	 */
 	void registerItem( final AEItemInfo itemInfo )
 	{
-		// Remove from the add list
-		this.ITEMS_TO_ADD.remove( itemInfo );
-
 		// Ensure it has not already been registered
-		if( !this.ITEMS_REGISTERED.contains( itemInfo ) )
+		long key = AEAspectRegister.getItemKey( itemInfo.itemStack );
+		if( ( key != -1 ) && this.ITEMS_REGISTERED.add( key ) )
 		{
-			// Add to the registered list
-			this.ITEMS_REGISTERED.add( itemInfo );
-
 			// Register it
-			ThaumcraftApi.registerObjectTag( itemInfo.itemStack, itemInfo.getFinalAspects() );
+			AspectList finalAspects = itemInfo.getFinalAspects();
+			ThaumcraftApi.registerObjectTag( itemInfo.itemStack, finalAspects );
+
+			// Add to the cache
+			this.CACHE.addEntry( itemInfo.itemStack, finalAspects );
 		}
 	}
 }
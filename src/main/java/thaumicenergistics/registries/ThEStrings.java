@@ -80,7 +80,8 @@ public enum ThEStrings
 		Gui_SelectedAspect ("gui.selected.aspect", false),
 		Gui_DigiVisSource ("gui.digivis.source", true),
 		Gui_TitleEssentiaCellWorkbench ("gui.essentia.cell.workbench.title", false),
-		Gui_TitleArcaneAssembler ("gui.arcane.assembler.title", false);
+		Gui_TitleArcaneAssembler ("gui.arcane.assembler.title", false),
+		Gui_EmitterHysteresis ("gui.emitter.hysteresis", false);
 
 	private String unlocalized;
 	private boolean isDotName;
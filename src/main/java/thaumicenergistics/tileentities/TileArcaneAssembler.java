@@ -11,21 +11,26 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.AspectList;
 import thaumcraft.common.Thaumcraft;
 import thaumicenergistics.api.ThEApi;
 import thaumicenergistics.blocks.BlockArcaneAssembler;
+import thaumicenergistics.grid.IDigiVisSourceCache;
 import thaumicenergistics.integration.IWailaSource;
 import thaumicenergistics.integration.tc.ArcaneCraftingPattern;
 import thaumicenergistics.integration.tc.DigiVisSourceData;
+import thaumicenergistics.integration.tc.IDigiVisConsumer;
 import thaumicenergistics.integration.tc.IDigiVisSource;
 import thaumicenergistics.integration.tc.VisCraftingHelper;
 import thaumicenergistics.inventory.HandlerKnowledgeCore;
 import thaumicenergistics.items.ItemKnowledgeCore;
+import thaumicenergistics.network.packet.client.PacketAreaArcaneAssembler;
 import thaumicenergistics.util.EffectiveSide;
 import thaumicenergistics.util.GuiHelper;
 import thaumicenergistics.util.IInventoryUpdateReceiver;
@@ -38,6 +43,7 @@ import appeng.api.definitions.IMaterials;
 import appeng.api.implementations.items.IMemoryCard;
 import appeng.api.implementations.items.MemoryCardMessages;
 import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGrid;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.networking.crafting.ICraftingProvider;
 import appeng.api.networking.crafting.ICraftingProviderHelper;
@@ -48,8 +54,9 @@ import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.networking.security.MachineSource;
-import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.api.util.DimensionalCoord;
 import appeng.core.localization.WailaText;
@@ -62,6 +69,7 @@ import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
 import appeng.tile.grid.AENetworkInvTile;
 import appeng.tile.inventory.InvOperation;
+import appeng.util.item.AEItemStack;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import cpw.mods.fml.relauncher.Side;
@@ -69,7 +77,7 @@ import cpw.mods.fml.relauncher.SideOnly;
 
 public class TileArcaneAssembler
 	extends AENetworkInvTile
-	implements ICraftingProvider, IInventoryUpdateReceiver, IWailaSource
+	implements ICraftingProvider, IInventoryUpdateReceiver, IWailaSource, IDigiVisConsumer
 {
 	private class AssemblerInventory
 		extends PrivateInventory
@@ -96,12 +104,35 @@ public class TileArcaneAssembler
 
 	}
 
+	/**
+	 * An accepted craft. The vis and power for the craft are taken when it is
+	 * accepted.
+	 */
+	private static class CraftingJob
+	{
+		/**
+		 * The pattern being crafted.
+		 */
+		public final ArcaneCraftingPattern pattern;
+
+		/**
+		 * Number of ticks spent crafting.
+		 */
+		public int progress = 0;
+
+		public CraftingJob( final ArcaneCraftingPattern pattern )
+		{
+			this.pattern = pattern;
+		}
+	}
+
 	/**
 	 * NBT Keys
 	 */
 	private static final String NBTKEY_KCORE = "kcore", NBTKEY_VIS_INTERFACE = "vis_interface", NBTKEY_STORED_VIS = "stored_vis",
 					NBTKEY_UPGRADES = "upgradeCount", NBTKEY_UPGRADEINV = "upgrades", NBTKEY_CRAFTING = "isCrafting",
-					NBTKEY_CRAFTING_PATTERN = "pattern", NBTKEY_DISCOUNT_ARMOR = "discount_armor#";
+					NBTKEY_CRAFTING_PATTERN = "pattern", NBTKEY_DISCOUNT_ARMOR = "discount_armor#", NBTKEY_JOBS = "jobs",
+					NBTKEY_JOB_PROGRESS = "progress", NBTKEY_RESULTS = "results";
 
 	/**
 	 * Used to simulate floating point amounts of vis.
@@ -113,6 +144,29 @@ public class TileArcaneAssembler
 	 */
 	private static final int BASE_TICKS_PER_CRAFT = 20;
 
+	/**
+	 * Number of ticks finished crafts are collected before they are sent to
+	 * the network.
+	 */
+	private static final int RESULT_FLUSH_TICKS = 5;
+
+	/**
+	 * Stored vis must change by at least this much before clients are told
+	 * about it.
+	 */
+	private static final int VIS_SYNC_THRESHOLD = TileArcaneAssembler.CVIS_MULTIPLER;
+
+	/**
+	 * Range, in blocks, that state changes are sent to.
+	 */
+	private static final int STATE_SYNC_RANGE = 64;
+
+	/**
+	 * Number of ticks between full updates, which are only sent if state
+	 * changes were sent since the last one.
+	 */
+	private static final int FULL_SYNC_TICKS = 200;
+
 	/**
 	 * Primal aspects.
 	 */
@@ -155,9 +209,19 @@ public class TileArcaneAssembler
 	private boolean isCrafting = false;
 
 	/**
-	 * The pattern currently being crafted.
+	 * Accepted crafts, the first of which are crafted at the same time.
+	 */
+	private final ArrayList<CraftingJob> craftingJobs = new ArrayList<CraftingJob>();
+
+	/**
+	 * Finished crafts waiting to be sent to the network.
 	 */
-	private ArcaneCraftingPattern currentPattern = null;
+	private final IItemList<IAEItemStack> pendingResults = AEApi.instance().storage().createItemList();
+
+	/**
+	 * True when the network could not accept all of the finished crafts.
+	 */
+	private boolean isOutputBlocked = false;
 
 	/**
 	 * Handles interaction with the knowledge core.
@@ -182,7 +246,22 @@ public class TileArcaneAssembler
 	/**
 	 * Number of elapsed ticks.
 	 */
-	private int visTickCounter = 0, craftTickCounter = 0, delayTickCounter = 0;
+	private int visTickCounter = 0, craftTickCounter = 0, delayTickCounter = 0, flushTickCounter = 0, fullSyncTickCounter = 0;
+
+	/**
+	 * Vis amounts clients were last told about.
+	 */
+	private final int[] syncedVis = new int[TileArcaneAssembler.PRIMALS.length];
+
+	/**
+	 * The lead job clients were last told about.
+	 */
+	private CraftingJob syncedJob = null;
+
+	/**
+	 * True when state changes have been sent since the last full update.
+	 */
+	private boolean hasSentStateChanges = false;
 
 	/**
 	 * Source of all actions.
@@ -204,6 +283,11 @@ public class TileArcaneAssembler
 	 */
 	private boolean wasDismantled = false;
 
+	/**
+	 * True once the assembler is being broken.
+	 */
+	private boolean isBreaking = false;
+
 	/**
 	 * How much discount each aspect is receiving.
 	 */
@@ -215,7 +299,7 @@ public class TileArcaneAssembler
 	private float warpPowerMultiplier = 1.0F;
 
 	/**
-	 * When true will send network update periodically.
+	 * When true visible state changes will be sent shortly.
 	 */
 	private boolean delayedUpdate = false;
 
@@ -293,118 +377,119 @@ public class TileArcaneAssembler
 
 	private void craftingTick()
 	{
-		// Null check
-		if( this.currentPattern == null )
-		{
-			this.isCrafting = false;
-		}
+		// Get the number of jobs being worked on
+		int activeJobs = Math.min( this.getCraftingLanes(), this.craftingJobs.size() );
+		int craftTicks = this.ticksPerCraft();
+		boolean jobsFinished = false;
 
-		// Is there enough vis to complete the crafting?
-		if( !this.hasEnoughVisForCraft() )
+		// Advance each active job, last to first so that finished jobs can be removed
+		for( int index = activeJobs - 1; index >= 0; --index )
 		{
-			return;
-		}
+			CraftingJob job = this.craftingJobs.get( index );
 
-		// Has the assembler finished crafting?
-		if( this.craftTickCounter >= this.ticksPerCraft() )
-		{
-			try
+			// Has the job finished?
+			if( ++job.progress >= craftTicks )
 			{
-				// Get the storage grid
-				IStorageGrid storageGrid = this.gridProxy.getStorage();
+				// Collect the result
+				this.pendingResults.add( job.pattern.result.copy() );
+				this.craftingJobs.remove( index );
+				jobsFinished = true;
+			}
+		}
 
-				// Simulate placing the items
-				IAEItemStack rejected = storageGrid.getItemInventory().injectItems( this.currentPattern.result, Actionable.SIMULATE, this.mySource );
+		// Update the crafting state
+		this.isCrafting = !this.craftingJobs.isEmpty();
+		this.craftTickCounter = ( this.isCrafting ? this.craftingJobs.get( 0 ).progress : 0 );
 
-				// Was all items accepted?
-				if( ( rejected == null ) || ( rejected.getStackSize() == 0 ) )
-				{
-					// Inject into the network
-					storageGrid.getItemInventory().injectItems( this.currentPattern.result.copy(), Actionable.MODULATE, this.mySource );
+		if( jobsFinished )
+		{
+			// Show the next job
+			this.updateTargetSlot();
 
-					// Mark the assembler as no longer crafting
-					this.isCrafting = false;
-					this.internalInventory.slots[TileArcaneAssembler.TARGET_SLOT_INDEX] = null;
-					this.currentPattern = null;
+			// Mark for network update
+			this.markForDelayedUpdate();
+		}
+	}
 
-					// Mark for network update
-					this.markForDelayedUpdate();
-				}
-			}
-			catch( GridAccessException e )
+	/**
+	 * Sends finished crafts to the network. Results of the same item are
+	 * combined, so each item is injected once per flush.
+	 */
+	private void flushResults()
+	{
+		try
+		{
+			// Get the item inventory
+			IMEMonitor<IAEItemStack> itemInventory = this.gridProxy.getStorage().getItemInventory();
+
+			for( IAEItemStack result : this.pendingResults )
 			{
+				// Inject into the network
+				IAEItemStack rejected = itemInventory.injectItems( result.copy(), Actionable.MODULATE, this.mySource );
+
+				// Keep anything that was not accepted
+				result.setStackSize( ( rejected == null ) ? 0 : rejected.getStackSize() );
 			}
+
+			// Stop accepting jobs until the rest can be stored
+			this.isOutputBlocked = !this.pendingResults.isEmpty();
 		}
-		else
+		catch( GridAccessException e )
 		{
-			try
-			{
-				// Calculate power required
-				double powerRequired = ( TileArcaneAssembler.ACTIVE_POWER + ( ( TileArcaneAssembler.ACTIVE_POWER * this.upgradeCount ) / 2.0D ) ) *
-								this.warpPowerMultiplier;
+			this.isOutputBlocked = true;
+		}
+	}
 
-				// Attempt to take power
-				IEnergyGrid eGrid = this.gridProxy.getEnergy();
-				double powerExtracted = eGrid.extractAEPower( powerRequired, Actionable.MODULATE, PowerMultiplier.CONFIG );
+	/**
+	 * The number of jobs that are crafted at the same time.
+	 */
+	private int getCraftingLanes()
+	{
+		return 1 + this.upgradeCount;
+	}
 
-				if( ( powerExtracted - powerRequired ) <= 0.0D )
-				{
-					// Increment the counter
-					this.craftTickCounter++ ;
-
-					if( this.craftTickCounter >= this.ticksPerCraft() )
-					{
-						// Take the required vis
-						Aspect[] requiredAspects = this.currentPattern.getCachedAspects();
-						for( Aspect aspect : requiredAspects )
-						{
-							// Calculate the required amount
-							int requiredAmount = this.getRequiredAmountForAspect( aspect );
-
-							// Take the vis
-							this.storedVis.reduce( aspect, requiredAmount );
-						}
-
-						this.markForDelayedUpdate();
-					}
-				}
-			}
-			catch( GridAccessException e )
-			{
-			}
-		}
+	/**
+	 * The number of jobs the assembler will accept.
+	 */
+	private int getJobCapacity()
+	{
+		return Math.max( ThEApi.instance().config().arcaneAssemblerQueueDepth(), this.getCraftingLanes() );
+	}
 
+	/**
+	 * Calculates the power required to craft a single job.
+	 */
+	private double getPowerRequiredForCraft()
+	{
+		double powerPerTick = ( TileArcaneAssembler.ACTIVE_POWER + ( ( TileArcaneAssembler.ACTIVE_POWER * this.upgradeCount ) / 2.0D ) ) *
+						this.warpPowerMultiplier;
+
+		return powerPerTick * this.ticksPerCraft();
 	}
 
 	/**
 	 * Helper function to calculate how much vis is required for the specified
-	 * aspect for the current recipe.
+	 * aspect for the recipe.
 	 * 
+	 * @param pattern
 	 * @param aspect
 	 * @return
 	 */
-	private int getRequiredAmountForAspect( final Aspect aspect )
+	private int getRequiredAmountForAspect( final ArcaneCraftingPattern pattern, final Aspect aspect )
 	{
-		return (int)Math.ceil( this.visDiscount.get( aspect ) *
-						( this.currentPattern.aspects.getAmount( aspect ) * TileArcaneAssembler.CVIS_MULTIPLER ) );
+		return (int)Math.ceil( this.visDiscount.get( aspect ) * ( pattern.aspects.getAmount( aspect ) * TileArcaneAssembler.CVIS_MULTIPLER ) );
 	}
 
-	private boolean hasEnoughVisForCraft()
+	private boolean hasEnoughVisForCraft( final ArcaneCraftingPattern pattern )
 	{
-		// Null check
-		if( this.currentPattern == null )
-		{
-			return false;
-		}
-
 		// Get the required aspects
-		Aspect[] requiredAspects = this.currentPattern.getCachedAspects();
+		Aspect[] requiredAspects = pattern.getCachedAspects();
 
 		// Check each aspect required by the pattern
 		for( Aspect aspect : requiredAspects )
 		{
 			// Calculate the required amount
-			int requiredAmount = this.getRequiredAmountForAspect( aspect );
+			int requiredAmount = this.getRequiredAmountForAspect( pattern, aspect );
 
 			// Is there not enough?
 			if( this.storedVis.getAmount( aspect ) < requiredAmount )
@@ -418,7 +503,8 @@ public class TileArcaneAssembler
 	}
 
 	/**
-	 * Marks the tile for a delayed update.
+	 * Marks the tile state as changed. Visible changes are sent to clients
+	 * shortly after.
 	 */
 	private void markForDelayedUpdate()
 	{
@@ -426,11 +512,24 @@ public class TileArcaneAssembler
 	}
 
 	/**
-	 * Refills the internal vis buffer.
+	 * Asks the grid's vis pool to refill the internal vis buffer.
 	 */
 	private void replenishVis()
 	{
-		IDigiVisSource visSource = null;
+		// Is the buffer already full?
+		boolean isFull = true;
+		for( Aspect primal : TileArcaneAssembler.PRIMALS )
+		{
+			if( this.storedVis.getAmount( primal ) < TileArcaneAssembler.MAX_STORED_CVIS )
+			{
+				isFull = false;
+				break;
+			}
+		}
+		if( isFull )
+		{
+			return;
+		}
 
 		// Ensure the grid is ready
 		if( !this.gridProxy.isReady() )
@@ -440,42 +539,107 @@ public class TileArcaneAssembler
 
 		try
 		{
+			IGrid grid = this.gridProxy.getGrid();
+
 			// Get the source
-			visSource = this.visSourceInfo.tryGetSource( this.gridProxy.getGrid() );
+			IDigiVisSource visSource = this.visSourceInfo.tryGetSource( grid );
+
+			// Ensure the source is reachable.
+			if( visSource == null )
+			{
+				return;
+			}
+
+			// Queue the request
+			( (IDigiVisSourceCache)grid.getCache( IDigiVisSourceCache.class ) ).requestVis( visSource, this );
 		}
 		catch( GridAccessException e )
 		{
 		}
+	}
 
-		// Ensure the source is reachable. 
-		if( visSource == null )
+	/**
+	 * Takes the vis and power needed to craft the pattern.
+	 * 
+	 * @param pattern
+	 * @return True if the craft was paid for.
+	 */
+	private boolean reserveCraft( final ArcaneCraftingPattern pattern )
+	{
+		// Is there enough vis?
+		if( !this.hasEnoughVisForCraft( pattern ) )
 		{
-			return;
+			return false;
 		}
 
-		// Calculate how much vis is needed for each primal
-		for( Aspect primal : TileArcaneAssembler.PRIMALS )
+		try
 		{
-			int numNeeded = TileArcaneAssembler.MAX_STORED_CVIS - this.storedVis.getAmount( primal );
-
-			// Is any needed?
-			if( numNeeded > 0 )
+			// Is there enough power?
+			double powerRequired = this.getPowerRequiredForCraft();
+			IEnergyGrid eGrid = this.gridProxy.getEnergy();
+			if( eGrid.extractAEPower( powerRequired, Actionable.SIMULATE, PowerMultiplier.CONFIG ) < powerRequired )
 			{
-				// Request the vis
-				int amountDrained = visSource.consumeVis( primal, numNeeded );
+				return false;
+			}
 
-				// Was any drained?
-				if( amountDrained > 0 )
-				{
-					// Add to the stored amount
-					this.storedVis.add( primal, amountDrained );
+			// Take the power
+			eGrid.extractAEPower( powerRequired, Actionable.MODULATE, PowerMultiplier.CONFIG );
+		}
+		catch( GridAccessException e )
+		{
+			return false;
+		}
 
-					// Mark for network sync
-					this.markForDelayedUpdate();
-				}
+		// Take the vis
+		for( Aspect aspect : pattern.getCachedAspects() )
+		{
+			this.storedVis.reduce( aspect, this.getRequiredAmountForAspect( pattern, aspect ) );
+		}
+
+		return true;
+	}
+
+	/**
+	 * Sends clients the vis amounts that have visibly changed, and the
+	 * crafting progress if the lead job has changed.
+	 */
+	private void sendStateChanges()
+	{
+		int changedVis = 0;
+
+		// Check each primal
+		for( int index = 0; index < TileArcaneAssembler.PRIMALS.length; ++index )
+		{
+			int amount = this.storedVis.getAmount( TileArcaneAssembler.PRIMALS[index] );
+			if( amount == this.syncedVis[index] )
+			{
+				continue;
+			}
+
+			// Is the change large enough to be seen, or is the buffer now empty or full?
+			if( ( Math.abs( amount - this.syncedVis[index] ) >= TileArcaneAssembler.VIS_SYNC_THRESHOLD ) || ( amount == 0 ) ||
+							( amount >= TileArcaneAssembler.MAX_STORED_CVIS ) )
+			{
+				this.syncedVis[index] = amount;
+				changedVis |= ( 1 << index );
 			}
 		}
 
+		// Has the lead job changed?
+		CraftingJob leadJob = ( this.craftingJobs.isEmpty() ? null : this.craftingJobs.get( 0 ) );
+		boolean craftingChanged = ( leadJob != this.syncedJob );
+
+		// Is there anything to send?
+		if( ( changedVis == 0 ) && !craftingChanged )
+		{
+			return;
+		}
+		this.syncedJob = leadJob;
+		this.hasSentStateChanges = true;
+
+		// Send the changes, clients move the progress bar along on their own
+		new PacketAreaArcaneAssembler().createStateChanges( this.worldObj, this.xCoord, this.yCoord, this.zCoord, changedVis, this.syncedVis,
+			craftingChanged, ( leadJob == null ? -1 : leadJob.progress ) ).sendToAllAround( TileArcaneAssembler.STATE_SYNC_RANGE );
 	}
 
 	/**
@@ -516,6 +680,21 @@ public class TileArcaneAssembler
 		}
 	}
 
+	/**
+	 * Shows the result of the first job in the target slot.
+	 */
+	private void updateTargetSlot()
+	{
+		if( this.craftingJobs.isEmpty() )
+		{
+			this.internalInventory.slots[TileArcaneAssembler.TARGET_SLOT_INDEX] = null;
+		}
+		else
+		{
+			this.internalInventory.slots[TileArcaneAssembler.TARGET_SLOT_INDEX] = this.craftingJobs.get( 0 ).pattern.result.getItemStack();
+		}
+	}
+
 	@Override
 	protected ItemStack getItemFromTile( final Object obj )
 	{
@@ -662,6 +841,19 @@ public class TileArcaneAssembler
 				}
 			}
 
+			// Add any results the network would not take
+			for( IAEItemStack result : this.pendingResults )
+			{
+				long remaining = result.getStackSize();
+				while( remaining > 0 )
+				{
+					ItemStack resultStack = result.getItemStack();
+					resultStack.stackSize = (int)Math.min( remaining, resultStack.getMaxStackSize() );
+					remaining -= resultStack.stackSize;
+					drops.add( resultStack );
+				}
+			}
+
 		}
 	}
 
@@ -725,6 +917,15 @@ public class TileArcaneAssembler
 		return this.visDiscount.get( aspect );
 	}
 
+	/**
+	 * Gets how much of the primal is needed to fill the vis buffer.
+	 */
+	@Override
+	public int getVisRequired( final Aspect primal )
+	{
+		return Math.max( 0, TileArcaneAssembler.MAX_STORED_CVIS - this.storedVis.getAmount( primal ) );
+	}
+
 	public boolean isActive()
 	{
 		// Are we server side?
@@ -744,15 +945,37 @@ public class TileArcaneAssembler
 	@Override
 	public boolean isBusy()
 	{
-		return this.isCrafting;
+		return( this.isBreaking || ( this.craftingJobs.size() >= this.getJobCapacity() ) || this.isOutputBlocked );
 	}
 
 	/**
 	 * Called when the tile entity is about to be destroyed by a block break.
+	 * Must be called before {@link #getDrops}, so that anything the network
+	 * will not take is dropped.
 	 */
 	public void onBreak()
 	{
+		// Stop accepting jobs
+		this.isBreaking = true;
+
+		// Dismantling saves the jobs and results to the item
+		if( !this.wasDismantled )
+		{
+			// Queued jobs are already paid for, finish them
+			for( CraftingJob job : this.craftingJobs )
+			{
+				this.pendingResults.add( job.pattern.result.copy() );
+			}
+
+			// Try to send the results to the network
+			if( !this.pendingResults.isEmpty() )
+			{
+				this.flushResults();
+			}
+		}
+
 		this.isCrafting = false;
+		this.craftingJobs.clear();
 		this.gridProxy.invalidate();
 	}
 
@@ -897,17 +1120,48 @@ public class TileArcaneAssembler
 		// Read upgrade inventory
 		this.upgradeInventory.readFromNBT( data, TileArcaneAssembler.NBTKEY_UPGRADEINV );
 
-		// Read the crafting status
-		if( data.hasKey( TileArcaneAssembler.NBTKEY_CRAFTING ) )
+		// Read the jobs
+		this.craftingJobs.clear();
+		if( data.hasKey( TileArcaneAssembler.NBTKEY_JOBS ) )
 		{
-			this.isCrafting = data.getBoolean( TileArcaneAssembler.NBTKEY_CRAFTING );
+			NBTTagList jobList = data.getTagList( TileArcaneAssembler.NBTKEY_JOBS, Constants.NBT.TAG_COMPOUND );
+			for( int index = 0; index < jobList.tagCount(); ++index )
+			{
+				NBTTagCompound jobData = jobList.getCompoundTagAt( index );
+
+				// Read the pattern
+				CraftingJob job = new CraftingJob( new ArcaneCraftingPattern( this.internalInventory.slots[TileArcaneAssembler.KCORE_SLOT_INDEX],
+								jobData.getCompoundTag( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN ) ) );
+				if( job.pattern.result != null )
+				{
+					job.progress = jobData.getInteger( TileArcaneAssembler.NBTKEY_JOB_PROGRESS );
+					this.craftingJobs.add( job );
+				}
+			}
+		}
+		// Read a single craft, saved before jobs were queued
+		else if( data.getBoolean( TileArcaneAssembler.NBTKEY_CRAFTING ) && data.hasKey( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN ) )
+		{
+			CraftingJob job = new CraftingJob( new ArcaneCraftingPattern( this.internalInventory.slots[TileArcaneAssembler.KCORE_SLOT_INDEX],
+							data.getCompoundTag( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN ) ) );
+			if( job.pattern.result != null )
+			{
+				this.craftingJobs.add( job );
+			}
 		}
+		this.isCrafting = !this.craftingJobs.isEmpty();
+		this.updateTargetSlot();
 
-		// Read the pattern
-		if( data.hasKey( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN ) )
+		// Read the finished crafts
+		this.pendingResults.resetStatus();
+		NBTTagList resultList = data.getTagList( TileArcaneAssembler.NBTKEY_RESULTS, Constants.NBT.TAG_COMPOUND );
+		for( int index = 0; index < resultList.tagCount(); ++index )
 		{
-			this.currentPattern = new ArcaneCraftingPattern( this.internalInventory.slots[TileArcaneAssembler.KCORE_SLOT_INDEX],
-							data.getCompoundTag( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN ) );
+			IAEItemStack result = AEItemStack.loadItemStackFromNBT( resultList.getCompoundTagAt( index ) );
+			if( result != null )
+			{
+				this.pendingResults.add( result );
+			}
 		}
 
 		// Read the armor
@@ -1024,6 +1278,45 @@ public class TileArcaneAssembler
 		return true;
 	}
 
+	/**
+	 * Called when the server sends the parts of the state that have changed.
+	 * 
+	 * @param changedVis
+	 * Bit mask of the changed primals.
+	 * @param visAmounts
+	 * @param craftingChanged
+	 * @param craftProgress
+	 * Progress of the lead craft, or -1 if not crafting.
+	 */
+	@SideOnly(Side.CLIENT)
+	public void onReceiveStateChanges( final int changedVis, final int[] visAmounts, final boolean craftingChanged, final int craftProgress )
+	{
+		// Update the changed primals
+		for( int index = 0; index < TileArcaneAssembler.PRIMALS.length; ++index )
+		{
+			if( ( changedVis & ( 1 << index ) ) != 0 )
+			{
+				this.storedVis.aspects.put( TileArcaneAssembler.PRIMALS[index], visAmounts[index] );
+			}
+		}
+
+		// Update the crafting progress
+		if( craftingChanged )
+		{
+			this.isCrafting = ( craftProgress >= 0 );
+			this.craftTickCounter = Math.max( craftProgress, 0 );
+
+			if( this.isCrafting )
+			{
+				// Add particles
+				for( int i = 0; i < 2; i++ )
+				{
+					Thaumcraft.proxy.blockRunes( this.worldObj, this.xCoord, this.yCoord, this.zCoord, 0.5F, 0.0F, 0.5F, 10, -0.1F );
+				}
+			}
+		}
+	}
+
 	@TileEvent(TileEventType.WORLD_NBT_WRITE)
 	public void onSaveNBT( final NBTTagCompound data )
 	{
@@ -1047,14 +1340,26 @@ public class TileArcaneAssembler
 		// Write the upgrade inventory
 		this.upgradeInventory.writeToNBT( data, TileArcaneAssembler.NBTKEY_UPGRADEINV );
 
-		// Write the crafting state
-		data.setBoolean( TileArcaneAssembler.NBTKEY_CRAFTING, this.isCrafting );
+		// Write the jobs
+		NBTTagList jobList = new NBTTagList();
+		for( CraftingJob job : this.craftingJobs )
+		{
+			NBTTagCompound jobData = new NBTTagCompound();
+			jobData.setTag( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN, job.pattern.writeToNBT( new NBTTagCompound() ) );
+			jobData.setInteger( TileArcaneAssembler.NBTKEY_JOB_PROGRESS, job.progress );
+			jobList.appendTag( jobData );
+		}
+		data.setTag( TileArcaneAssembler.NBTKEY_JOBS, jobList );
 
-		// Write the current pattern
-		if( this.currentPattern != null )
+		// Write the finished crafts
+		NBTTagList resultList = new NBTTagList();
+		for( IAEItemStack result : this.pendingResults )
 		{
-			data.setTag( TileArcaneAssembler.NBTKEY_CRAFTING_PATTERN, this.currentPattern.writeToNBT( new NBTTagCompound() ) );
+			NBTTagCompound resultData = new NBTTagCompound();
+			result.writeToNBT( resultData );
+			resultList.appendTag( resultData );
 		}
+		data.setTag( TileArcaneAssembler.NBTKEY_RESULTS, resultList );
 
 		// Write the discount armors
 		for( int index = 0; index < 4; index++ )
@@ -1102,7 +1407,8 @@ public class TileArcaneAssembler
 		// Ignored on client side.
 		if( EffectiveSide.isClientSide() )
 		{
-			if( ( this.isCrafting ) && ( this.craftTickCounter < TileArcaneAssembler.BASE_TICKS_PER_CRAFT ) )
+			// Move the progress along between updates
+			if( ( this.isCrafting ) && ( this.craftTickCounter < this.ticksPerCraft() ) )
 			{
 				this.craftTickCounter++ ;
 			}
@@ -1158,8 +1464,8 @@ public class TileArcaneAssembler
 			// Have 5 ticks elapsed?
 			if( this.delayTickCounter >= 5 )
 			{
-				// Mark for an update
-				this.markForUpdate();
+				// Send what has changed
+				this.sendStateChanges();
 
 				// Reset the trackers
 				this.delayedUpdate = false;
@@ -1167,12 +1473,44 @@ public class TileArcaneAssembler
 			}
 		}
 
+		// Have state changes been sent?
+		if( this.hasSentStateChanges )
+		{
+			// Increase the counter
+			this.fullSyncTickCounter++ ;
+
+			// Catch up clients that are out of range of the state changes
+			if( this.fullSyncTickCounter >= TileArcaneAssembler.FULL_SYNC_TICKS )
+			{
+				// Mark for an update
+				this.markForUpdate();
+
+				// Reset the trackers
+				this.hasSentStateChanges = false;
+				this.fullSyncTickCounter = 0;
+			}
+		}
+
 		// Is the assembler crafting?
 		if( this.isCrafting )
 		{
 			// Tick crafting
 			craftingTick();
 		}
+
+		// Are there finished crafts waiting?
+		if( !this.pendingResults.isEmpty() )
+		{
+			// Increase the counter
+			this.flushTickCounter++ ;
+
+			// Send them once enough ticks have elapsed, or right away if nothing else is being crafted
+			if( ( this.flushTickCounter >= TileArcaneAssembler.RESULT_FLUSH_TICKS ) || ( !this.isCrafting && !this.isOutputBlocked ) )
+			{
+				this.flushTickCounter = 0;
+				this.flushResults();
+			}
+		}
 	}
 
 	@MENetworkEventSubscribe
@@ -1211,19 +1549,27 @@ public class TileArcaneAssembler
 	@Override
 	public boolean pushPattern( final ICraftingPatternDetails patternDetails, final InventoryCrafting table )
 	{
-		if( ( !this.isCrafting ) && ( patternDetails instanceof ArcaneCraftingPattern ) )
+		if( ( patternDetails instanceof ArcaneCraftingPattern ) && ( !this.isBusy() ) )
 		{
-			// Mark that crafting has begun
-			this.isCrafting = true;
+			ArcaneCraftingPattern pattern = (ArcaneCraftingPattern)patternDetails;
 
-			// Reset the crafting tick counter
-			this.craftTickCounter = 0;
+			// Take the vis and power for the craft
+			if( !this.reserveCraft( pattern ) )
+			{
+				return false;
+			}
+
+			// Queue the job
+			this.craftingJobs.add( new CraftingJob( pattern ) );
 
-			// Set the pattern that is being crafted
-			this.currentPattern = (ArcaneCraftingPattern)patternDetails;
+			// Mark that crafting has begun
+			this.isCrafting = true;
 
 			// Set the target item
-			this.internalInventory.slots[TileArcaneAssembler.TARGET_SLOT_INDEX] = this.currentPattern.result.getItemStack();
+			this.updateTargetSlot();
+
+			// Mark for network update
+			this.markForDelayedUpdate();
 
 			// AE effects
 			try
@@ -1231,7 +1577,7 @@ public class TileArcaneAssembler
 				NetworkRegistry.TargetPoint where = new NetworkRegistry.TargetPoint( this.worldObj.provider.dimensionId, this.xCoord, this.yCoord,
 								this.zCoord, 32.0D );
 				appeng.core.sync.network.NetworkHandler.instance.sendToAllAround( new PacketAssemblerAnimation( this.xCoord, this.yCoord,
-								this.zCoord, (byte)( 10 + ( 9 * this.upgradeCount ) ), this.currentPattern.result ), where );
+								this.zCoord, (byte)( 10 + ( 9 * this.upgradeCount ) ), pattern.result ), where );
 			}
 			catch( IOException e )
 			{
@@ -1243,6 +1589,19 @@ public class TileArcaneAssembler
 		return false;
 	}
 
+	/**
+	 * Adds vis drained by the grid's vis pool to the buffer.
+	 */
+	@Override
+	public void receiveVis( final Aspect primal, final int amount )
+	{
+		// Add to the stored amount
+		this.storedVis.add( primal, amount );
+
+		// Mark for network sync
+		this.markForDelayedUpdate();
+	}
+
 	/**
 	 * Sets the owner of this tile.
 	 * 
@@ -6,7 +6,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.IEssentiaTransport;
 import thaumicenergistics.api.ThEApi;
-import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.integration.tc.EssentiaTransportHelper;
 import thaumicenergistics.integration.tc.IEssentiaTransportWithSimulate;
 import appeng.api.config.Actionable;
@@ -19,8 +18,10 @@ public class TileEssentiaProvider
 {
 	/**
 	 * How often should the tile tick.
+	 * Backlog is used when a full batch was taken from a neighbor, and there
+	 * is likely more waiting.
 	 */
-	private static final int TICK_RATE_IDLE = 15, TICK_RATE_URGENT = 5;
+	private static final int TICK_RATE_IDLE = 15, TICK_RATE_URGENT = 5, TICK_RATE_BACKLOG = 1;
 
 	/**
 	 * Tracks the number of ticks that have occurred.
@@ -123,15 +124,8 @@ public class TileEssentiaProvider
 		// Does the neighbor want anything?
 		if( wantedAspect != null )
 		{
-			// Get the stack from the network
-			AspectStack matchingStack = this.getAspectStackFromNetwork( wantedAspect );
-
-			// Does the network have that aspect?
-			if( matchingStack != null )
-			{
-				// Return the amount we have
-				return (int)matchingStack.amount;
-			}
+			// Return the amount the network has
+			return (int)this.getAspectAmountInNetwork( wantedAspect );
 		}
 
 		// No match or no request
@@ -148,7 +142,7 @@ public class TileEssentiaProvider
 		if( wantedAspect != null )
 		{
 			// Does the network have that aspect?
-			if( this.getAspectStackFromNetwork( wantedAspect ) != null )
+			if( this.getAspectAmountInNetwork( wantedAspect ) > 0 )
 			{
 				// Return the aspect they want
 				return wantedAspect;
@@ -199,11 +193,40 @@ public class TileEssentiaProvider
 			// Reset the tick count
 			this.tickCount = 0;
 
-			// Assume idle
-			this.tickRate = TileEssentiaProvider.TICK_RATE_IDLE;
-
 			// Take essentia from the neighbors
-			EssentiaTransportHelper.INSTANCE.takeEssentiaFromTransportNeighbors( this, this.worldObj, this.xCoord, this.yCoord, this.zCoord );
+			int batchSize = ThEApi.instance().config().essentiaTransportBatchSize();
+			int moved = 0;
+			boolean isBacklogged = false;
+			for( ForgeDirection side : ForgeDirection.VALID_DIRECTIONS )
+			{
+				int movedFromSide = EssentiaTransportHelper.INSTANCE.takeEssentiaFromTransportNeighbor( this, this.worldObj, this.xCoord,
+					this.yCoord, this.zCoord, side, batchSize );
+
+				// Stop pulling if refused essentia could not be given back
+				if( movedFromSide == EssentiaTransportHelper.REFUND_FAILED )
+				{
+					break;
+				}
+
+				moved += movedFromSide;
+
+				// A full batch from any side means there is a backlog
+				isBacklogged |= ( movedFromSide >= batchSize );
+			}
+
+			// Adjust the tick rate to how much was moved
+			if( isBacklogged )
+			{
+				this.tickRate = TileEssentiaProvider.TICK_RATE_BACKLOG;
+			}
+			else if( moved > 0 )
+			{
+				this.tickRate = TileEssentiaProvider.TICK_RATE_URGENT;
+			}
+			else
+			{
+				this.tickRate = TileEssentiaProvider.TICK_RATE_IDLE;
+			}
 		}
 	}
 
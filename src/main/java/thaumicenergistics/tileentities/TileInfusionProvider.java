@@ -3,6 +3,7 @@ package thaumicenergistics.tileentities;
 import java.util.ArrayList;
 import java.util.List;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import thaumcraft.api.aspects.Aspect;
 import thaumcraft.api.aspects.AspectList;
 import thaumcraft.api.aspects.IAspectSource;
@@ -11,24 +12,54 @@ import thaumicenergistics.api.ThEApi;
 import thaumicenergistics.aspect.AspectStack;
 import thaumicenergistics.fluids.GaseousEssentia;
 import thaumicenergistics.integration.tc.EssentiaConversionHelper;
+import appeng.api.config.Actionable;
 import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.ITickManager;
+import appeng.api.networking.ticking.TickRateModulation;
+import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.IMEMonitorHandlerReceiver;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.me.GridAccessException;
+import appeng.tile.TileEvent;
+import appeng.tile.events.TileEventType;
 import cpw.mods.fml.common.FMLCommonHandler;
 
 public class TileInfusionProvider
 	extends TileProviderBase
-	implements IAspectSource, IMEMonitorHandlerReceiver<IAEFluidStack>
+	implements IGridTickable, IAspectSource, IMEMonitorHandlerReceiver<IAEFluidStack>
 {
 	/**
 	 * List of aspects on the network
 	 */
 	protected List<AspectStack> aspectStackList = new ArrayList<AspectStack>();
 
+	/**
+	 * How long the buffer is kept after the last pull, before being returned
+	 * to the network.
+	 */
+	private static final int BUFFER_HOLD_TICKS = 40;
+
+	/**
+	 * NBT keys.
+	 */
+	private static final String NBT_KEY_BUFFER_ASPECT = "BufferAspect", NBT_KEY_BUFFER_AMOUNT = "BufferAmount";
+
+	/**
+	 * Essentia taken from the network but not yet given to the infusion.
+	 */
+	private Aspect bufferedAspect = null;
+	private int bufferedAmount = 0;
+
+	/**
+	 * World tick of the last pull from the buffer.
+	 */
+	private long lastBufferPullTick = 0;
+
 	/**
 	 * Shows runes on the infusion provider.
 	 * 
@@ -52,6 +83,110 @@ public class TileInfusionProvider
 		}
 	}
 
+	/**
+	 * Returns as much of the buffer to the network as it will accept.
+	 */
+	private void returnBuffer()
+	{
+		// Is there anything buffered?
+		if( ( this.bufferedAspect == null ) || ( this.bufferedAmount <= 0 ) )
+		{
+			this.bufferedAspect = null;
+			this.bufferedAmount = 0;
+			return;
+		}
+
+		// Return it
+		this.bufferedAmount -= this.injectEssentiaIntoNetwork( this.bufferedAspect, this.bufferedAmount, Actionable.MODULATE );
+
+		// Was it all returned?
+		if( this.bufferedAmount <= 0 )
+		{
+			this.bufferedAspect = null;
+			this.bufferedAmount = 0;
+		}
+
+		// Mark for a save
+		this.saveChanges();
+	}
+
+	/**
+	 * Takes essentia for the infusion from the buffer, refilling it from the
+	 * network if needed.
+	 * 
+	 * @param aspect
+	 * @param amount
+	 * @param bufferSize
+	 * @return True if the full amount was taken.
+	 */
+	private boolean takeFromBuffer( final Aspect aspect, final int amount, final int bufferSize )
+	{
+		// Is a different aspect buffered?
+		if( ( this.bufferedAspect != null ) && ( this.bufferedAspect != aspect ) )
+		{
+			// Return it
+			this.returnBuffer();
+
+			// Was it all returned?
+			if( this.bufferedAspect != null )
+			{
+				// Can not buffer the new aspect
+				return( this.extractEssentiaFromNetwork( aspect, amount, true ) == amount );
+			}
+		}
+
+		// Does the buffer need to be refilled?
+		if( this.bufferedAmount < amount )
+		{
+			int extracted = this.extractEssentiaFromNetwork( aspect, Math.max( amount, bufferSize ) - this.bufferedAmount, false );
+			if( extracted > 0 )
+			{
+				// Start the return timer if the buffer was empty
+				if( this.bufferedAmount == 0 )
+				{
+					this.wakeTickManager();
+				}
+
+				this.bufferedAspect = aspect;
+				this.bufferedAmount += extracted;
+			}
+		}
+
+		this.lastBufferPullTick = this.worldObj.getTotalWorldTime();
+
+		// Is there enough?
+		if( this.bufferedAmount < amount )
+		{
+			return false;
+		}
+
+		// Take from the buffer
+		this.bufferedAmount -= amount;
+		if( this.bufferedAmount == 0 )
+		{
+			this.bufferedAspect = null;
+		}
+
+		// Mark for a save
+		this.saveChanges();
+
+		return true;
+	}
+
+	/**
+	 * Lets the tick manager know the buffer needs to be watched.
+	 */
+	private void wakeTickManager()
+	{
+		IGridNode node = this.gridProxy.getNode();
+
+		// Does the provider have a grid?
+		if( ( node != null ) && ( node.getGrid() != null ) )
+		{
+			( (ITickManager)node.getGrid().getCache( ITickManager.class ) ).wakeDevice( node );
+		}
+	}
+
 	/**
 	 * How much power does this require just to be active?
 	 */
@@ -151,6 +286,14 @@ public class TileInfusionProvider
 		return null;
 	}
 
+	@Override
+	public TickingRequest getTickingRequest( final IGridNode node )
+	{
+		// Sleep until something is buffered
+		return new TickingRequest( TileInfusionProvider.BUFFER_HOLD_TICKS, TileInfusionProvider.BUFFER_HOLD_TICKS, ( this.bufferedAmount <= 0 ),
+						false );
+	}
+
 	@Override
 	public boolean isValid( final Object prevGrid )
 	{
@@ -175,6 +318,11 @@ public class TileInfusionProvider
 	 */
 	public void onBreakBlock()
 	{
+		// Return anything buffered, whatever the network refuses is lost with the block
+		this.returnBuffer();
+		this.bufferedAspect = null;
+		this.bufferedAmount = 0;
+
 		// Do we have a monitor
 		if( this.monitor != null )
 		{
@@ -183,12 +331,46 @@ public class TileInfusionProvider
 		}
 	}
 
+	@Override
+	public void onChunkUnload()
+	{
+		// Return anything buffered
+		if( ( this.worldObj != null ) && !this.worldObj.isRemote )
+		{
+			this.returnBuffer();
+		}
+
+		super.onChunkUnload();
+	}
+
 	@Override
 	public void onListUpdate()
 	{
 		// Ignored
 	}
 
+	@TileEvent(TileEventType.WORLD_NBT_READ)
+	public void onLoadBufferNBT( final NBTTagCompound data )
+	{
+		// Is there a buffer?
+		if( data.hasKey( TileInfusionProvider.NBT_KEY_BUFFER_ASPECT ) )
+		{
+			this.bufferedAspect = Aspect.aspects.get( data.getString( TileInfusionProvider.NBT_KEY_BUFFER_ASPECT ) );
+			this.bufferedAmount = ( this.bufferedAspect != null ? data.getInteger( TileInfusionProvider.NBT_KEY_BUFFER_AMOUNT ) : 0 );
+		}
+	}
+
+	@TileEvent(TileEventType.WORLD_NBT_WRITE)
+	public void onSaveBufferNBT( final NBTTagCompound data )
+	{
+		// Is there a buffer?
+		if( ( this.bufferedAspect != null ) && ( this.bufferedAmount > 0 ) )
+		{
+			data.setString( TileInfusionProvider.NBT_KEY_BUFFER_ASPECT, this.bufferedAspect.getTag() );
+			data.setInteger( TileInfusionProvider.NBT_KEY_BUFFER_AMOUNT, this.bufferedAmount );
+		}
+	}
+
 	/**
 	 * Called by the AE monitor when the network changes.
 	 */
@@ -228,8 +410,22 @@ public class TileInfusionProvider
 	@Override
 	public boolean takeFromContainer( final Aspect tag, final int amount )
 	{
-		// Can we extract the essentia from the network?
-		if( this.extractEssentiaFromNetwork( tag, amount, true ) == amount )
+		boolean tookEssentia;
+
+		// Is the buffer enabled?
+		int bufferSize = ThEApi.instance().config().infusionProviderBufferSize();
+		if( bufferSize > 0 )
+		{
+			// Take from the buffer
+			tookEssentia = this.takeFromBuffer( tag, amount, bufferSize );
+		}
+		else
+		{
+			// Can we extract the essentia from the network?
+			tookEssentia = ( this.extractEssentiaFromNetwork( tag, amount, true ) == amount );
+		}
+
+		if( tookEssentia )
 		{
 			// Show partical FX
 			this.doParticalFX( tag.getColor() );
@@ -248,4 +444,22 @@ public class TileInfusionProvider
 		return false;
 	}
 
+	/**
+	 * Returns the buffer to the network once the infusion stops pulling from
+	 * it.
+	 */
+	@Override
+	public TickRateModulation tickingRequest( final IGridNode node, final int ticksSinceLastCall )
+	{
+		// Is there anything buffered that has not been pulled recently?
+		if( ( this.bufferedAmount > 0 ) &&
+						( ( this.worldObj.getTotalWorldTime() - this.lastBufferPullTick ) > TileInfusionProvider.BUFFER_HOLD_TICKS ) )
+		{
+			this.returnBuffer();
+		}
+
+		// Sleep once the buffer is empty, or wait before trying again
+		return( this.bufferedAmount > 0 ? TickRateModulation.SAME : TickRateModulation.SLEEP );
+	}
+
 }
@@ -63,6 +63,12 @@ public abstract class TileProviderBase
 	 */
 	protected IMEMonitor<IAEFluidStack> monitor = null;
 
+	/**
+	 * Grid the monitor was taken from.
+	 * Cleared when the channels change so that the monitor is looked up again.
+	 */
+	private IGrid monitorGrid = null;
+
 	/**
 	 * True if the provider is connected and powered.
 	 */
@@ -153,27 +159,48 @@ public abstract class TileProviderBase
 
 	}
 
-	protected AspectStack getAspectStackFromNetwork( final Aspect searchAspect )
+	/**
+	 * Gets how much of the aspect is stored in the network.
+	 * 
+	 * @param searchAspect
+	 * @return Amount in essentia units.
+	 */
+	protected long getAspectAmountInNetwork( final Aspect searchAspect )
 	{
-		// Get the list from the network
-		List<AspectStack> aspectStackList = this.getNetworkAspects();
+		// Ensure we have a monitor
+		if( !this.getFluidMonitor() )
+		{
+			return 0;
+		}
 
-		// Ensure we have a list, and that it is not empty
-		if( ( aspectStackList != null ) && ( !aspectStackList.isEmpty() ) )
+		// Get the template stack of the aspect's gas
+		IAEFluidStack template = EssentiaConversionHelper.INSTANCE.getTemplate( GaseousEssentia.getGasFromAspect( searchAspect ) );
+		if( template == null )
 		{
-			// Search all aspects in the list
-			for( AspectStack currentStack : aspectStackList )
-			{
-				// Do the current match the search?
-				if( currentStack.aspect == searchAspect )
-				{
-					// Found it
-					return currentStack;
-				}
-			}
+			return 0;
 		}
 
-		return null;
+		// Look up just that gas
+		IAEFluidStack fluidStack = this.monitor.getStorageList().findPrecise( template );
+		if( fluidStack == null )
+		{
+			return 0;
+		}
+
+		return EssentiaConversionHelper.INSTANCE.convertFluidAmountToEssentiaAmount( fluidStack.getStackSize() );
+	}
+
+	/**
+	 * Gets the stack of the aspect stored in the network.
+	 * 
+	 * @param searchAspect
+	 * @return Stack, or null if the network does not have the aspect.
+	 */
+	protected AspectStack getAspectStackFromNetwork( final Aspect searchAspect )
+	{
+		long amount = this.getAspectAmountInNetwork( searchAspect );
+
+		return( amount > 0 ? new AspectStack( searchAspect, amount ) : null );
 	}
 
 	protected boolean getFluidMonitor()
@@ -193,14 +220,22 @@ public abstract class TileProviderBase
 		// Is there a grid?
 		if( grid == null )
 		{
+			this.monitorGrid = null;
 			return false;
 		}
 
+		// Is the monitor still valid?
+		if( ( grid == this.monitorGrid ) && ( this.monitor != null ) )
+		{
+			return true;
+		}
+
 		// Access the storage grid
 		IStorageGrid storageGrid = (IStorageGrid)grid.getCache( IStorageGrid.class );
 
 		// Set our monitor
 		this.monitor = storageGrid.getFluidInventory();
+		this.monitorGrid = grid;
 
 		return( this.monitor != null );
 	}
@@ -332,6 +367,9 @@ public abstract class TileProviderBase
 		// Check that our color is still valid
 		this.checkGridConnectionColor();
 
+		// Look the monitor up again the next time it is needed
+		this.monitorGrid = null;
+
 		// Call subclass
 		this.onChannelUpdate();
 
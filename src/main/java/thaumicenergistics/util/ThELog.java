@@ -24,6 +24,20 @@ public class ThELog
 		log.info( String.format( "Finished (%s in %dms)", section, ( System.currentTimeMillis() - sectionStartTime ) ) );
 	}
 
+	/**
+	 * Logs debugging info.
+	 * 
+	 * @param format
+	 * @param data
+	 */
+	public static void debug( final String format, final Object ... data )
+	{
+		if( log.isDebugEnabled() )
+		{
+			log.debug( String.format( format, data ) );
+		}
+	}
+
 	/**
 	 * Logs basic info.
 	 * 